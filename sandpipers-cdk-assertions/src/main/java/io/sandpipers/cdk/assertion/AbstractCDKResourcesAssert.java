@@ -40,8 +40,14 @@ public abstract class AbstractCDKResourcesAssert<SELF extends AbstractCDKResourc
       final String key,
       final Object value) {
 
-    final Map<String, Map<String, Object>> properties =
-        (Map<String, Map<String, Object>>) actual.get("Properties");
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    // AWS::ApiGatewayV2 resources declare tags as a map rather than a list of key/value pairs
+    if (properties.get(tagsMapId) instanceof Map) {
+      Assertions.assertThat((Map<String, Object>) properties.get(tagsMapId))
+          .containsEntry(key, value);
+      return myself;
+    }
 
     final List<Object> tags = (List<Object>) properties.get(tagsMapId);
 
@@ -57,7 +63,7 @@ public abstract class AbstractCDKResourcesAssert<SELF extends AbstractCDKResourc
 
     Assertions.assertThat(actualDependency)
         .isInstanceOf(List.class)
-        .anyMatch(s -> s.matches(expected));
+        .anyMatch(s -> Patterns.matches(s, expected));
 
     return myself;
   }
@@ -189,13 +195,13 @@ public abstract class AbstractCDKResourcesAssert<SELF extends AbstractCDKResourc
                 .isNotEmpty()
                 .flatExtracting("Fn::GetAtt")
                 .map(e -> (String) e)
-                .anySatisfy(e -> Assertions.assertThat(e).matches(resource));
+                .anySatisfy(e -> Assertions.assertThat(e).matches(Patterns.compile(resource)));
           } else {
             Assertions.assertThat(actualResource)
                 .isNotEmpty()
                 .extracting("Ref")
                 .asInstanceOf(InstanceOfAssertFactories.STRING)
-                .matches(e -> e.matches(resource));
+                .matches(e -> Patterns.matches(e, resource));
           }
         });
 
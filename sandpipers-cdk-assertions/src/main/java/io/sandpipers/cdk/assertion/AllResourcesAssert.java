@@ -0,0 +1,169 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * Fluent assertions over every resource of one type in a template, e.g. every <code>AWS::SQS::Queue</code>. Each assertion evaluates all resources in
+ * one pass over the {@link TemplateIndex} and, if any of them fails, reports the logical id of every failing resource at once. Start with
+ * {@link CDKStackAssert#allResourcesOfType(CdkResourceType)}.
+ */
+@SuppressWarnings("unchecked")
+public class AllResourcesAssert extends AbstractAssert<AllResourcesAssert, Map<String, Map<String, Object>>> {
+
+  private final CdkResourceType cdkResourceType;
+
+  private AllResourcesAssert(final CdkResourceType cdkResourceType, final Map<String, Map<String, Object>> actual) {
+    super(actual, AllResourcesAssert.class);
+    this.cdkResourceType = cdkResourceType;
+  }
+
+  /**
+   * @param cdkResourceType type of the resources
+   * @param actual resources of the given type, keyed by logical id
+   * @return {@link AllResourcesAssert} instance
+   */
+  public static AllResourcesAssert assertThat(final CdkResourceType cdkResourceType, final Map<String, Map<String, Object>> actual) {
+    return new AllResourcesAssert(cdkResourceType, actual);
+  }
+
+  /**
+   * @return the resources as a stream of logical id to resource entries, in template order
+   */
+  public Stream<Entry<String, Map<String, Object>>> stream() {
+    return actual.entrySet().stream();
+  }
+
+  public AllResourcesAssert isNotEmpty() {
+    if (actual.isEmpty()) {
+      failWithMessage("Expected template to contain at least one resource of type <%s>", cdkResourceType.getValue());
+    }
+
+    return myself;
+  }
+
+  public AllResourcesAssert hasSize(final int expected) {
+    if (actual.size() != expected) {
+      failWithMessage("Expected template to contain <%d> resource(s) of type <%s> but found <%d>: %s",
+          expected, cdkResourceType.getValue(), actual.size(), actual.keySet());
+    }
+
+    return myself;
+  }
+
+  /**
+   * @param logicalIdRegex pattern the logical id must contain a match for
+   * @return a new {@link AllResourcesAssert} over the resources whose logical id matches
+   */
+  public AllResourcesAssert filteredOnLogicalId(final String logicalIdRegex) {
+    final Pattern pattern = Patterns.compile(logicalIdRegex);
+
+    final Map<String, Map<String, Object>> filtered = stream()
+        .filter(entry -> pattern.matcher(entry.getKey()).find())
+        .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+    return new AllResourcesAssert(cdkResourceType, filtered);
+  }
+
+  /**
+   * Verifies that every resource matches the given predicate.
+   *
+   * @param description what the predicate checks, used in the failure message, e.g. <code>"have a redrive policy"</code>
+   * @param predicate evaluated against each resource map
+   * @return this
+   */
+  public AllResourcesAssert allMatch(final String description, final Predicate<Map<String, Object>> predicate) {
+    final List<String> failures = stream()
+        .filter(entry -> !predicate.test(entry.getValue()))
+        .map(Entry::getKey)
+        .toList();
+
+    if (!failures.isEmpty()) {
+      failWithMessage("Expected every <%s> to %s, but %d of %d did not: %s",
+          cdkResourceType.getValue(), description, failures.size(), actual.size(), failures);
+    }
+
+    return myself;
+  }
+
+  /**
+   * Verifies that every resource satisfies the given requirements, typically expressed with one of the per-resource asserts, e.g.
+   * <pre>
+   *   .allSatisfy(queue -&gt; QueueAssert.assertThat(queue).hasTag("ENVIRONMENT", "TEST"))
+   * </pre>
+   * Every resource is evaluated, and the assertion errors of all failing resources are reported together.
+   *
+   * @param requirements evaluated against each resource map
+   * @return this
+   */
+  public AllResourcesAssert allSatisfy(final Consumer<Map<String, Object>> requirements) {
+    final List<String> failures = new ArrayList<>();
+
+    stream().forEach(entry -> {
+      try {
+        requirements.accept(entry.getValue());
+      } catch (final AssertionError e) {
+        failures.add("<%s>: %s".formatted(entry.getKey(), Objects.toString(e.getMessage(), e.toString()).strip()));
+      }
+    });
+
+    if (!failures.isEmpty()) {
+      failWithMessage("Expected every <%s> to satisfy the requirements, but %d of %d did not:%n%s",
+          cdkResourceType.getValue(), failures.size(), actual.size(), String.join(System.lineSeparator(), failures));
+    }
+
+    return myself;
+  }
+
+  /**
+   * Verifies that every resource has the given top-level property, e.g. <code>SqsManagedSseEnabled</code>.
+   *
+   * @param propertyName name of the property under <code>Properties</code>
+   * @return this
+   */
+  public AllResourcesAssert allHaveProperty(final String propertyName) {
+    return allMatch("have property <%s>".formatted(propertyName), resource -> properties(resource).get(propertyName) != null);
+  }
+
+  /**
+   * @param propertyName name of the property under <code>Properties</code>
+   * @param expected expected value of the property
+   * @return this
+   */
+  public AllResourcesAssert allHavePropertyEqualTo(final String propertyName, final Object expected) {
+    return allMatch("have property <%s> equal to <%s>".formatted(propertyName, expected),
+        resource -> Objects.equals(properties(resource).get(propertyName), expected));
+  }
+
+  private static Map<String, Object> properties(final Map<String, Object> resource) {
+    final Map<String, Object> properties = (Map<String, Object>) resource.get("Properties");
+    return properties == null ? Map.of() : properties;
+  }
+}
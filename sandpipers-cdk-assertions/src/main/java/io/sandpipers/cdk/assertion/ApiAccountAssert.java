@@ -47,7 +47,7 @@ public class ApiAccountAssert extends
         .flatExtracting("Fn::GetAtt")
         .isNotEmpty()
         .map(e -> (String) e)
-        .anySatisfy(arn -> Assertions.assertThat(arn).matches(e -> e.matches(expected)));
+        .anySatisfy(arn -> Assertions.assertThat(arn).matches(e -> Patterns.matches(e, expected)));
 
     return this;
   }
@@ -42,7 +42,7 @@ public class ApiBasePathMappingAssert extends AbstractCDKResourcesAssert<ApiBase
     Assertions.assertThat(domainName)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
@@ -54,7 +54,7 @@ public class ApiBasePathMappingAssert extends AbstractCDKResourcesAssert<ApiBase
     Assertions.assertThat(restApiId)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
@@ -66,7 +66,7 @@ public class ApiBasePathMappingAssert extends AbstractCDKResourcesAssert<ApiBase
     Assertions.assertThat(stage)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
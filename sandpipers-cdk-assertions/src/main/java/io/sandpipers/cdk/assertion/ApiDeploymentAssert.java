@@ -44,7 +44,7 @@ public class ApiDeploymentAssert extends
     Assertions.assertThat(restApiId)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(arn -> arn.toString().matches(expected));
+        .matches(arn -> Patterns.matches(arn.toString(), expected));
 
     return this;
   }
@@ -70,7 +70,7 @@ public class ApiDomainNameAssert extends AbstractCDKResourcesAssert<ApiDomainNam
     Assertions.assertThat(regionalCertificateArn)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
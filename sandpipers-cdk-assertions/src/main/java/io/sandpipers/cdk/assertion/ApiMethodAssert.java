@@ -20,6 +20,7 @@ package io.sandpipers.cdk.assertion;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 
 /**
  * Fluent assertions for <code>AWS::ApiGateway::Deployment</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start
@@ -44,7 +45,7 @@ public class ApiMethodAssert extends AbstractCDKResourcesAssert<ApiMethodAssert,
     Assertions.assertThat(restApiId)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
@@ -55,7 +56,7 @@ public class ApiMethodAssert extends AbstractCDKResourcesAssert<ApiMethodAssert,
 
     Assertions.assertThat(authorizationType)
         .isNotBlank()
-        .matches(e -> e.matches(expected));
+        .matches(e -> Patterns.matches(e, expected));
 
     return this;
   }
@@ -67,7 +68,7 @@ public class ApiMethodAssert extends AbstractCDKResourcesAssert<ApiMethodAssert,
 
     Assertions.assertThat(httpMethod)
         .isNotBlank()
-        .matches(e -> e.matches(expected));
+        .matches(e -> Patterns.matches(e, expected));
 
     return this;
   }
@@ -102,14 +103,42 @@ public class ApiMethodAssert extends AbstractCDKResourcesAssert<ApiMethodAssert,
           .isNotEmpty()
           .flatExtracting("Fn::GetAtt")
           .map(e -> (String) e)
-          .anySatisfy(e -> Assertions.assertThat(e).matches(expected))
+          .anySatisfy(e -> Assertions.assertThat(e).matches(Patterns.compile(expected)))
           .anySatisfy(e -> Assertions.assertThat(e).matches("RootResourceId"));
     } else {
       Assertions.assertThat(resourceId)
           .isNotEmpty()
           .extracting("Ref")
-          .matches(e -> e.toString().matches(expected));
+          .matches(e -> Patterns.matches(e.toString(), expected));
     }
     return this;
   }
+
+  /**
+   * @param expected request parameter in the cache key, e.g. <code>method.request.querystring.page</code>
+   * @return this
+   */
+  public ApiMethodAssert hasCacheKeyParameter(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Integration", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("CacheKeyParameters", InstanceOfAssertFactories.list(String.class))
+        .contains(expected);
+
+    Assertions.assertThat(properties)
+        .extractingByKey("RequestParameters", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsKey(expected);
+
+    return this;
+  }
+
+  public ApiMethodAssert hasApiKeyRequired(final Boolean expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .containsEntry("ApiKeyRequired", expected);
+
+    return this;
+  }
 }
@@ -44,7 +44,7 @@ public class ApiResourceAssert extends
     Assertions.assertThat(restApiId)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
@@ -70,13 +70,13 @@ public class ApiResourceAssert extends
           .isNotEmpty()
           .flatExtracting("Fn::GetAtt")
           .map(e -> (String) e)
-          .anySatisfy(e -> Assertions.assertThat(e).matches(expected))
+          .anySatisfy(e -> Assertions.assertThat(e).matches(Patterns.compile(expected)))
           .anySatisfy(e -> Assertions.assertThat(e).matches("RootResourceId"));
     } else {
       Assertions.assertThat(parentId)
           .isNotEmpty()
           .extracting("Ref")
-          .matches(e -> e.toString().matches(expected));
+          .matches(e -> Patterns.matches(e.toString(), expected));
     }
     return this;
   }
@@ -19,6 +19,8 @@ package io.sandpipers.cdk.assertion;
 
 import java.util.Map;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.core.api.MapAssert;
 
 /**
  * Fluent assertions for <code>AWS::ApiGateway::Stage</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
@@ -43,7 +45,7 @@ public class ApiStageAssert extends
     Assertions.assertThat(restApiId)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
@@ -55,7 +57,7 @@ public class ApiStageAssert extends
     Assertions.assertThat(deploymentId)
         .isNotEmpty()
         .extracting("Ref")
-        .matches(e -> e.toString().matches(expected));
+        .matches(e -> Patterns.matches(e.toString(), expected));
 
     return this;
   }
@@ -66,7 +68,90 @@ public class ApiStageAssert extends
 
     Assertions.assertThat(stageName)
         .isNotBlank()
-        .matches(sn -> sn.matches(expected));
+        .matches(sn -> Patterns.matches(sn, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected cache cluster size in GB, e.g. <code>0.5</code>
+   * @return this
+   */
+  public ApiStageAssert hasCacheCluster(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .containsEntry("CacheClusterEnabled", true)
+        .containsEntry("CacheClusterSize", expected);
+
+    return this;
+  }
+
+  /**
+   * @param resourcePath resource path as in the template, i.e. <code>/*</code> for all resources and <code>~1</code> in place of <code>/</code>, e.g.
+   * <code>/~1users~1{id}</code>
+   * @param httpMethod HTTP method, or <code>*</code> for all methods
+   * @param cachingEnabled whether responses are cached
+   * @param cacheTtlInSeconds expected TTL, not verified if <code>null</code>
+   * @return this
+   */
+  public ApiStageAssert hasMethodCaching(final String resourcePath,
+      final String httpMethod,
+      final Boolean cachingEnabled,
+      final Integer cacheTtlInSeconds) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    final MapAssert<String, Object> methodSetting = Assertions.assertThat(properties)
+        .extractingByKey("MethodSettings", InstanceOfAssertFactories.list(Map.class))
+        .filteredOn(setting -> resourcePath.equals(setting.get("ResourcePath")) && httpMethod.equals(setting.get("HttpMethod")))
+        .singleElement(InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("CachingEnabled", cachingEnabled);
+
+    if (cacheTtlInSeconds != null) {
+      methodSetting.containsEntry("CacheTtlInSeconds", cacheTtlInSeconds);
+    }
+
+    return this;
+  }
+
+  /**
+   * Verifies every method setting that enables caching also encrypts the cached data.
+   */
+  public ApiStageAssert hasCacheDataEncrypted() {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("MethodSettings", InstanceOfAssertFactories.list(Map.class))
+        .filteredOn(setting -> Boolean.TRUE.equals(setting.get("CachingEnabled")))
+        .isNotEmpty()
+        .allSatisfy(setting -> Assertions.assertThat(setting).containsEntry("CacheDataEncrypted", true));
+
+    return this;
+  }
+
+  /**
+   * @param resourcePath resource path as in the template, i.e. <code>/*</code> for the whole stage and <code>~1</code> in place of <code>/</code>, e.g.
+   * <code>/~1users~1{id}</code>
+   * @param httpMethod HTTP method, or <code>*</code> for all methods
+   * @param burstLimit expected throttling burst limit
+   * @param rateLimit expected throttling rate limit in requests per second
+   * @return this
+   */
+  public ApiStageAssert hasMethodThrottling(final String resourcePath,
+      final String httpMethod,
+      final Integer burstLimit,
+      final Double rateLimit) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("MethodSettings", InstanceOfAssertFactories.list(Map.class))
+        .filteredOn(setting -> resourcePath.equals(setting.get("ResourcePath")) && httpMethod.equals(setting.get("HttpMethod")))
+        .singleElement(InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("ThrottlingBurstLimit", burstLimit)
+        .extractingByKey("ThrottlingRateLimit", InstanceOfAssertFactories.type(Number.class))
+        .matches(rate -> rate.doubleValue() == rateLimit, "rate limit of " + rateLimit);
 
     return this;
   }
@@ -0,0 +1,64 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Fluent assertions for <code>AWS::AppRunner::AutoScalingConfiguration</code>. This should be used if the resource map is extracted from the AWS template.
+ * Otherwise, start with {@link CDKStackAssert#containsAppRunnerAutoScalingConfiguration(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class AppRunnerAutoScalingConfigurationAssert extends AbstractCDKResourcesAssert<AppRunnerAutoScalingConfigurationAssert, Map<String, Object>> {
+
+  private AppRunnerAutoScalingConfigurationAssert(final Map<String, Object> actual) {
+    super(actual, AppRunnerAutoScalingConfigurationAssert.class);
+  }
+
+  public static AppRunnerAutoScalingConfigurationAssert assertThat(final Map<String, Object> actual) {
+    return new AppRunnerAutoScalingConfigurationAssert(actual);
+  }
+
+  public AppRunnerAutoScalingConfigurationAssert hasMaxConcurrency(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .containsEntry("MaxConcurrency", expected);
+
+    return this;
+  }
+
+  public AppRunnerAutoScalingConfigurationAssert hasMinSize(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .containsEntry("MinSize", expected);
+
+    return this;
+  }
+
+  public AppRunnerAutoScalingConfigurationAssert hasMaxSize(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .containsEntry("MaxSize", expected);
+
+    return this;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::AppRunner::Service</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start
+ * with {@link CDKStackAssert#containsAppRunnerService(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class AppRunnerServiceAssert extends AbstractCDKResourcesAssert<AppRunnerServiceAssert, Map<String, Object>> {
+
+  private AppRunnerServiceAssert(final Map<String, Object> actual) {
+    super(actual, AppRunnerServiceAssert.class);
+  }
+
+  public static AppRunnerServiceAssert assertThat(final Map<String, Object> actual) {
+    return new AppRunnerServiceAssert(actual);
+  }
+
+  public AppRunnerServiceAssert hasCpu(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("InstanceConfiguration", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("Cpu", expected);
+
+    return this;
+  }
+
+  public AppRunnerServiceAssert hasMemory(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("InstanceConfiguration", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("Memory", expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::IAM::Role</code>
+   * @return this
+   */
+  public AppRunnerServiceAssert hasInstanceRole(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("InstanceConfiguration", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("InstanceRoleArn", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Fn::GetAtt", InstanceOfAssertFactories.list(String.class))
+        .first(InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::AppRunner::AutoScalingConfiguration</code>
+   * @return this
+   */
+  public AppRunnerServiceAssert hasAutoScalingConfiguration(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("AutoScalingConfigurationArn", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Fn::GetAtt", InstanceOfAssertFactories.list(String.class))
+        .hasSize(2)
+        .satisfies(getAtt -> Assertions.assertThat(getAtt.get(0)).matches(e -> Patterns.matches(e, expected)))
+        .endsWith("AutoScalingConfigurationArn");
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::AppRunner::ObservabilityConfiguration</code>
+   * @return this
+   */
+  public AppRunnerServiceAssert hasObservabilityConfiguration(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ObservabilityConfiguration", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("ObservabilityEnabled", true)
+        .extractingByKey("ObservabilityConfigurationArn", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Fn::GetAtt", InstanceOfAssertFactories.list(String.class))
+        .hasSize(2)
+        .satisfies(getAtt -> Assertions.assertThat(getAtt.get(0)).matches(e -> Patterns.matches(e, expected)))
+        .endsWith("ObservabilityConfigurationArn");
+
+    return this;
+  }
+}
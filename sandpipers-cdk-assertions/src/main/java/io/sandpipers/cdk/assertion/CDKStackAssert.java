@@ -17,12 +17,10 @@
 
 package io.sandpipers.cdk.assertion;
 
-import static software.amazon.awscdk.assertions.Match.stringLikeRegexp;
-
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.api.Assertions;
 import software.amazon.awscdk.assertions.Template;
 
 @SuppressWarnings("unchecked")
@@ -254,6 +252,101 @@ public class CDKStackAssert extends AbstractAssert<CDKStackAssert, Template> {
     return LambdaPermissionAssert.assertThat(resource.getValue());
   }
 
+  /**
+   * Fluent assertions for <code>AWS::Lambda::Alias</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link LambdaAliasAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-lambda/src/test/java/com/sandpipers/cdk/example/lambda">sandpipers-cdk-example-lambda/test</a>
+   * </p>
+   *
+   * @param id the id of the lambda alias
+   * @return {@link LambdaAliasAssert} instance
+   */
+  public LambdaAliasAssert containsLambdaAlias(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.LAMBDA_ALIAS, id);
+
+    return LambdaAliasAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApplicationAutoScaling::ScalableTarget</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link ScalableTargetAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-lambda/src/test/java/com/sandpipers/cdk/example/lambda">sandpipers-cdk-example-lambda/test</a>
+   * </p>
+   *
+   * @param id the id of the scalable target
+   * @return {@link ScalableTargetAssert} instance
+   */
+  public ScalableTargetAssert containsScalableTarget(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APPLICATION_AUTOSCALING_SCALABLE_TARGET, id);
+
+    return ScalableTargetAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApplicationAutoScaling::ScalingPolicy</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link ScalingPolicyAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-lambda/src/test/java/com/sandpipers/cdk/example/lambda">sandpipers-cdk-example-lambda/test</a>
+   * </p>
+   *
+   * @param id the id of the scaling policy
+   * @return {@link ScalingPolicyAssert} instance
+   */
+  public ScalingPolicyAssert containsScalingPolicy(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APPLICATION_AUTOSCALING_SCALING_POLICY, id);
+
+    return ScalingPolicyAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::Events::Rule</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link RuleAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-lambda/src/test/java/com/sandpipers/cdk/example/lambda">sandpipers-cdk-example-lambda/test</a>
+   * </p>
+   *
+   * @param id the id of the rule
+   * @return {@link RuleAssert} instance
+   */
+  public RuleAssert containsRule(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.EVENTS_RULE, id);
+
+    return RuleAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::Lambda::EventSourceMapping</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link EventSourceMappingAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-lambda/src/test/java/com/sandpipers/cdk/example/lambda">sandpipers-cdk-example-lambda/test</a>
+   * </p>
+   *
+   * @param id the id of the event source mapping
+   * @return {@link EventSourceMappingAssert} instance
+   */
+  public EventSourceMappingAssert containsEventSourceMapping(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.LAMBDA_EVENT_SOURCE_MAPPING, id);
+
+    return EventSourceMappingAssert.assertThat(resource.getValue());
+  }
+
   /**
    * Fluent assertions for <code>AWS::ApiGateway::BasePathMapping</code>. Assertions are done directly on an object of
    * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link ApiDomainNameAssert} should be used
@@ -292,6 +385,158 @@ public class CDKStackAssert extends AbstractAssert<CDKStackAssert, Template> {
     return ApiBasePathMappingAssert.assertThat(resource.getValue());
   }
 
+  /**
+   * Fluent assertions for <code>AWS::ApiGateway::UsagePlan</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link UsagePlanAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the usage plan
+   * @return {@link UsagePlanAssert} instance
+   */
+  public UsagePlanAssert containsUsagePlan(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAY_USAGE_PLAN, id);
+
+    return UsagePlanAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApiGateway::UsagePlanKey</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link UsagePlanKeyAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the usage plan key
+   * @return {@link UsagePlanKeyAssert} instance
+   */
+  public UsagePlanKeyAssert containsUsagePlanKey(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAY_USAGE_PLAN_KEY, id);
+
+    return UsagePlanKeyAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApiGatewayV2::Api</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link HttpApiAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the HTTP API
+   * @return {@link HttpApiAssert} instance
+   */
+  public HttpApiAssert containsHttpApi(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAYV2_API, id);
+
+    return HttpApiAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApiGatewayV2::Route</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link HttpApiRouteAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the HTTP API route
+   * @return {@link HttpApiRouteAssert} instance
+   */
+  public HttpApiRouteAssert containsHttpApiRoute(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAYV2_ROUTE, id);
+
+    return HttpApiRouteAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApiGatewayV2::Integration</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link HttpApiIntegrationAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the HTTP API integration
+   * @return {@link HttpApiIntegrationAssert} instance
+   */
+  public HttpApiIntegrationAssert containsHttpApiIntegration(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAYV2_INTEGRATION, id);
+
+    return HttpApiIntegrationAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApiGatewayV2::Stage</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link HttpApiStageAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the HTTP API stage
+   * @return {@link HttpApiStageAssert} instance
+   */
+  public HttpApiStageAssert containsHttpApiStage(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAYV2_STAGE, id);
+
+    return HttpApiStageAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApiGatewayV2::DomainName</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link HttpApiDomainNameAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the HTTP API domain name
+   * @return {@link HttpApiDomainNameAssert} instance
+   */
+  public HttpApiDomainNameAssert containsHttpApiDomainName(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAYV2_DOMAIN_NAME, id);
+
+    return HttpApiDomainNameAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::ApiGatewayV2::ApiMapping</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link HttpApiMappingAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/test/java/com/sandpipers/cdk/example/apigateway">sandpipers-cdk-example-apigateway/test</a>
+   * </p>
+   *
+   * @param id the id of the HTTP API api mapping
+   * @return {@link HttpApiMappingAssert} instance
+   */
+  public HttpApiMappingAssert containsHttpApiMapping(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APIGATEWAYV2_API_MAPPING, id);
+
+    return HttpApiMappingAssert.assertThat(resource.getValue());
+  }
+
   /**
    * Fluent assertions for <code>AWS::SQS::QueuePolicy</code>. Assertions are done directly on an object of
    * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link QueuePolicyAssert} should be used
@@ -453,21 +698,139 @@ public class CDKStackAssert extends AbstractAssert<CDKStackAssert, Template> {
     return DynamoDBGlobalTableAssert.assertThat(resource.getValue());
   }
 
+  /**
+   * Fluent assertions for <code>AWS::DAX::Cluster</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link DaxClusterAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-dynamodb/src/test/java/com/sandpipers/cdk/example/dynamodb">sandpipers-cdk-example-dynamodb/test</a>
+   * </p>
+   *
+   * @param id the id of the DAX cluster
+   * @return {@link DaxClusterAssert} instance
+   */
+  public DaxClusterAssert containsDaxCluster(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.DAX_CLUSTER, id);
+
+    return DaxClusterAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::DAX::ParameterGroup</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link DaxParameterGroupAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-dynamodb/src/test/java/com/sandpipers/cdk/example/dynamodb">sandpipers-cdk-example-dynamodb/test</a>
+   * </p>
+   *
+   * @param id the id of the DAX parameter group
+   * @return {@link DaxParameterGroupAssert} instance
+   */
+  public DaxParameterGroupAssert containsDaxParameterGroup(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.DAX_PARAMETER_GROUP, id);
+
+    return DaxParameterGroupAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::AppRunner::Service</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link AppRunnerServiceAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apprunner/src/test/java/com/sandpipers/cdk/example/apprunner">sandpipers-cdk-example-apprunner/test</a>
+   * </p>
+   *
+   * @param id the id of the App Runner service
+   * @return {@link AppRunnerServiceAssert} instance
+   */
+  public AppRunnerServiceAssert containsAppRunnerService(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APPRUNNER_SERVICE, id);
+
+    return AppRunnerServiceAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::AppRunner::AutoScalingConfiguration</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link AppRunnerAutoScalingConfigurationAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apprunner/src/test/java/com/sandpipers/cdk/example/apprunner">sandpipers-cdk-example-apprunner/test</a>
+   * </p>
+   *
+   * @param id the id of the App Runner auto scaling configuration
+   * @return {@link AppRunnerAutoScalingConfigurationAssert} instance
+   */
+  public AppRunnerAutoScalingConfigurationAssert containsAppRunnerAutoScalingConfiguration(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APPRUNNER_AUTO_SCALING_CONFIGURATION, id);
+
+    return AppRunnerAutoScalingConfigurationAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions for <code>AWS::AppRunner::ObservabilityConfiguration</code>. Assertions are done directly on an object of
+   * {@link software.amazon.awscdk.assertions.Template}. If a resource map has been extracted from, then {@link AppRunnerObservabilityConfigurationAssert} should be used instead.
+   *
+   * <p>
+   * Example usage can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-apprunner/src/test/java/com/sandpipers/cdk/example/apprunner">sandpipers-cdk-example-apprunner/test</a>
+   * </p>
+   *
+   * @param id the id of the App Runner observability configuration
+   * @return {@link AppRunnerObservabilityConfigurationAssert} instance
+   */
+  public AppRunnerObservabilityConfigurationAssert containsAppRunnerObservabilityConfiguration(final String id) {
+
+    final Entry<String, Map<String, Object>> resource = containsResource(actual, CdkResourceType.APPRUNNER_OBSERVABILITY_CONFIGURATION, id);
+
+    return AppRunnerObservabilityConfigurationAssert.assertThat(resource.getValue());
+  }
+
+  /**
+   * Fluent assertions over every resource of the given type. Each assertion is evaluated on all matching resources in one pass, and all failures are
+   * reported together, e.g.
+   * <br/><br/>
+   * <pre>
+   *     assertThat(template)
+   *         .allResourcesOfType(CdkResourceType.QUEUE)
+   *         .hasSize(2)
+   *         .allHavePropertyEqualTo("SqsManagedSseEnabled", true)
+   *         .filteredOnLogicalId("^Queue[a-zA-Z0-9]{8}$")
+   *         .allHaveProperty("RedrivePolicy");
+   * </pre>
+   * <p>
+   * Example usages can be found in <a
+   * href="https://github.com/muhamadto/sandpipers-cdk/tree/main/sandpipers-cdk-examples/sandpipers-cdk-example-sqs/src/test/java/com/sandpipers/cdk/example/sqs">sandpipers-cdk-example-sqs/test</a>
+   * </p>
+   *
+   * @param cdkResourceType type of the resources
+   * @return {@link AllResourcesAssert} instance
+   */
+  public AllResourcesAssert allResourcesOfType(final CdkResourceType cdkResourceType) {
+    isNotNull();
+
+    return AllResourcesAssert.assertThat(cdkResourceType, TemplateIndex.of(actual).getResources(cdkResourceType));
+  }
+
   private Entry<String, Map<String, Object>> containsResource(
       final Template template,
       final CdkResourceType cdkResourceType,
       final String id) {
 
-    final Entry<String, Map<String, Object>> resource = template.findResources(cdkResourceType.getValue())
-        .entrySet()
-        .stream()
-        .filter(entry -> stringLikeRegexp(id).test(entry.getKey()).getIsSuccess())
-        .findFirst()
-        .orElseThrow();
+    final Optional<Entry<String, Map<String, Object>>> resource = TemplateIndex.of(template)
+        .findResource(cdkResourceType, Patterns.compile(id));
 
-    Assertions.assertThat(resource)
-        .isNotNull();
+    if (resource.isEmpty()) {
+      failWithMessage("Expected template to contain a resource of type <%s> with logical id matching <%s>", cdkResourceType.getValue(), id);
+    }
 
-    return resource;
+    return resource.get();
   }
 }
@@ -32,9 +32,23 @@ public enum CdkResourceType {
   APIGATEWAY_STAGE("AWS::ApiGateway::Stage"),
   APIGATEWAY_DOMAIN_NAME("AWS::ApiGateway::DomainName"),
   APIGATEWAY_BASE_PATH_MAPPING("AWS::ApiGateway::BasePathMapping"),
+  APIGATEWAY_USAGE_PLAN("AWS::ApiGateway::UsagePlan"),
+  APIGATEWAY_USAGE_PLAN_KEY("AWS::ApiGateway::UsagePlanKey"),
+  APIGATEWAYV2_API("AWS::ApiGatewayV2::Api"),
+  APIGATEWAYV2_ROUTE("AWS::ApiGatewayV2::Route"),
+  APIGATEWAYV2_INTEGRATION("AWS::ApiGatewayV2::Integration"),
+  APIGATEWAYV2_STAGE("AWS::ApiGatewayV2::Stage"),
+  APIGATEWAYV2_DOMAIN_NAME("AWS::ApiGatewayV2::DomainName"),
+  APIGATEWAYV2_API_MAPPING("AWS::ApiGatewayV2::ApiMapping"),
   LAMBDA_FUNCTION("AWS::Lambda::Function"),
   LAMBDA_EVENT_INVOKE_CONFIG("AWS::Lambda::EventInvokeConfig"),
   LAMBDA_PERMISSION("AWS::Lambda::Permission"),
+  LAMBDA_ALIAS("AWS::Lambda::Alias"),
+  LAMBDA_EVENT_SOURCE_MAPPING("AWS::Lambda::EventSourceMapping"),
+  LAMBDA_VERSION("AWS::Lambda::Version"),
+  APPLICATION_AUTOSCALING_SCALABLE_TARGET("AWS::ApplicationAutoScaling::ScalableTarget"),
+  APPLICATION_AUTOSCALING_SCALING_POLICY("AWS::ApplicationAutoScaling::ScalingPolicy"),
+  EVENTS_RULE("AWS::Events::Rule"),
   POLICY("AWS::IAM::Policy"),
   ROLE("AWS::IAM::Role"),
   TOPIC("AWS::SNS::Topic"),
@@ -45,6 +59,12 @@ public enum CdkResourceType {
   ECS_TASK_DEFINITION("AWS::ECS::TaskDefinition"),
   DYNAMODB_TABLE("AWS::DynamoDB::Table"),
   DYNAMODB_GLOBAL_TABLE("AWS::DynamoDB::GlobalTable"),
+  APPRUNNER_SERVICE("AWS::AppRunner::Service"),
+  APPRUNNER_AUTO_SCALING_CONFIGURATION("AWS::AppRunner::AutoScalingConfiguration"),
+  APPRUNNER_OBSERVABILITY_CONFIGURATION("AWS::AppRunner::ObservabilityConfiguration"),
+  DAX_CLUSTER("AWS::DAX::Cluster"),
+  DAX_PARAMETER_GROUP("AWS::DAX::ParameterGroup"),
+  DAX_SUBNET_GROUP("AWS::DAX::SubnetGroup"),
   CERTIFICATEMANAGER_CERTIFICATE("AWS::CertificateManager::Certificate"),
   ROUTE53_RECORD_SET("AWS::Route53::RecordSet"),
   ROUTE53_HOSTED_ZONE("AWS::Route53::HostedZone"),
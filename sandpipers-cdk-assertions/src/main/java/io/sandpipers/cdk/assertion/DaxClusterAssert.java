@@ -0,0 +1,141 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::DAX::Cluster</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsDaxCluster(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class DaxClusterAssert extends AbstractCDKResourcesAssert<DaxClusterAssert, Map<String, Object>> {
+
+  private DaxClusterAssert(final Map<String, Object> actual) {
+    super(actual, DaxClusterAssert.class);
+  }
+
+  public static DaxClusterAssert assertThat(final Map<String, Object> actual) {
+    return new DaxClusterAssert(actual);
+  }
+
+  public DaxClusterAssert hasNodeType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("NodeType"))
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public DaxClusterAssert hasReplicationFactor(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((Integer) properties.get("ReplicationFactor"))
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public DaxClusterAssert hasServerSideEncryption() {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("SSESpecification", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("SSEEnabled", true);
+
+    return this;
+  }
+
+  /**
+   * @param expected <code>TLS</code> or <code>NONE</code>
+   * @return this
+   */
+  public DaxClusterAssert hasClusterEndpointEncryptionType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("ClusterEndpointEncryptionType"))
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected pattern of the logical id of the <code>AWS::DAX::SubnetGroup</code>
+   * @return this
+   */
+  public DaxClusterAssert hasSubnetGroup(final String expected) {
+    return hasRef("SubnetGroupName", expected);
+  }
+
+  /**
+   * @param expected pattern of the logical id of the <code>AWS::DAX::ParameterGroup</code>
+   * @return this
+   */
+  public DaxClusterAssert hasParameterGroup(final String expected) {
+    return hasRef("ParameterGroupName", expected);
+  }
+
+  /**
+   * @param expected pattern of the logical id of the <code>AWS::IAM::Role</code> assumed by DAX
+   * @return this
+   */
+  public DaxClusterAssert hasIamRole(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("IAMRoleARN", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Fn::GetAtt", InstanceOfAssertFactories.list(String.class))
+        .first()
+        .matches(role -> Patterns.matches(role, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected pattern of the logical id of the <code>AWS::EC2::SecurityGroup</code>
+   * @return this
+   */
+  public DaxClusterAssert hasSecurityGroup(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final List<Map<String, Object>> securityGroupIds = (List<Map<String, Object>>) properties.get("SecurityGroupIds");
+
+    Assertions.assertThat(securityGroupIds)
+        .isNotEmpty()
+        .anySatisfy(securityGroupId -> Assertions.assertThat(securityGroupId)
+            .extractingByKey("Fn::GetAtt", InstanceOfAssertFactories.list(String.class))
+            .first()
+            .matches(securityGroup -> Patterns.matches(securityGroup, expected)));
+
+    return this;
+  }
+
+  private DaxClusterAssert hasRef(final String property, final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey(property, InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+        .matches(Patterns.compile(expected));
+
+    return this;
+  }
+}
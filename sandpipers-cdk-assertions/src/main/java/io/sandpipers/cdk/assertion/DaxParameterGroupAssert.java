@@ -0,0 +1,56 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::DAX::ParameterGroup</code>. This should be used if the resource map is extracted from the AWS template. Otherwise,
+ * start with {@link CDKStackAssert#containsDaxParameterGroup(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class DaxParameterGroupAssert extends AbstractCDKResourcesAssert<DaxParameterGroupAssert, Map<String, Object>> {
+
+  private DaxParameterGroupAssert(final Map<String, Object> actual) {
+    super(actual, DaxParameterGroupAssert.class);
+  }
+
+  public static DaxParameterGroupAssert assertThat(final Map<String, Object> actual) {
+    return new DaxParameterGroupAssert(actual);
+  }
+
+  public DaxParameterGroupAssert hasItemCacheTtl(final Long expectedMillis) {
+    return hasParameter("record-ttl-millis", String.valueOf(expectedMillis));
+  }
+
+  public DaxParameterGroupAssert hasQueryCacheTtl(final Long expectedMillis) {
+    return hasParameter("query-ttl-millis", String.valueOf(expectedMillis));
+  }
+
+  public DaxParameterGroupAssert hasParameter(final String name, final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ParameterNameValues", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry(name, expected);
+
+    return this;
+  }
+}
@@ -20,6 +20,7 @@ package io.sandpipers.cdk.assertion;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 
 /**
  * Fluent assertions for <code>AWS::DynamoDB::GlobalTable</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
@@ -44,7 +45,7 @@ public class DynamoDBGlobalTableAssert extends
     Assertions.assertThat(billingMode)
         .isNotNull()
         .isInstanceOf(String.class)
-        .matches(bm -> bm.matches(expected));
+        .matches(bm -> Patterns.matches(bm, expected));
 
     return this;
   }
@@ -56,7 +57,7 @@ public class DynamoDBGlobalTableAssert extends
     Assertions.assertThat(billingMode)
         .isNotNull()
         .isInstanceOf(String.class)
-        .matches(bm -> bm.matches(expected));
+        .matches(bm -> Patterns.matches(bm, expected));
 
     return this;
   }
@@ -114,4 +115,127 @@ public class DynamoDBGlobalTableAssert extends
         });
     return this;
   }
+
+  public DynamoDBGlobalTableAssert hasTimeToLive(final String attribute) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("TimeToLiveSpecification", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("AttributeName", attribute)
+        .containsEntry("Enabled", true);
+
+    return this;
+  }
+
+  public DynamoDBGlobalTableAssert hasWriteCapacityAutoScaling(final Integer minCapacity,
+      final Integer maxCapacity,
+      final Integer targetUtilizationPercent) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("WriteProvisionedThroughputSettings", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("WriteCapacityAutoScalingSettings")
+        .isEqualTo(autoScalingSettings(minCapacity, maxCapacity, targetUtilizationPercent));
+
+    return this;
+  }
+
+  /**
+   * Verifies the read capacity auto-scaling of every replica of the table.
+   */
+  public DynamoDBGlobalTableAssert hasReadCapacityAutoScaling(final Integer minCapacity,
+      final Integer maxCapacity,
+      final Integer targetUtilizationPercent) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Replicas", InstanceOfAssertFactories.list(Map.class))
+        .isNotEmpty()
+        .allSatisfy(replica -> Assertions.assertThat((Map<String, Object>) replica)
+            .extractingByKey("ReadProvisionedThroughputSettings", InstanceOfAssertFactories.map(String.class, Object.class))
+            .extractingByKey("ReadCapacityAutoScalingSettings")
+            .isEqualTo(autoScalingSettings(minCapacity, maxCapacity, targetUtilizationPercent)));
+
+    return this;
+  }
+
+  /**
+   * @param indexName name of the global secondary index
+   * @param projectionType <code>ALL</code>, <code>KEYS_ONLY</code> or <code>INCLUDE</code>
+   * @param nonKeyAttributes the exact non-key attributes projected, empty unless <code>INCLUDE</code>
+   * @return this
+   */
+  public DynamoDBGlobalTableAssert hasGlobalSecondaryIndexProjection(final String indexName,
+      final String projectionType,
+      final String... nonKeyAttributes) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    final Map<String, Object> projection = nonKeyAttributes.length == 0
+        ? Map.of("ProjectionType", projectionType)
+        : Map.of("ProjectionType", projectionType, "NonKeyAttributes", List.of(nonKeyAttributes));
+
+    Assertions.assertThat(properties)
+        .extractingByKey("GlobalSecondaryIndexes", InstanceOfAssertFactories.list(Map.class))
+        .filteredOn(index -> indexName.equals(index.get("IndexName")))
+        .singleElement(InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Projection")
+        .isEqualTo(projection);
+
+    return this;
+  }
+
+  public DynamoDBGlobalTableAssert hasGlobalSecondaryIndexWriteCapacityAutoScaling(final String indexName,
+      final Integer minCapacity,
+      final Integer maxCapacity,
+      final Integer targetUtilizationPercent) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("GlobalSecondaryIndexes", InstanceOfAssertFactories.list(Map.class))
+        .filteredOn(index -> indexName.equals(index.get("IndexName")))
+        .singleElement(InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("WriteProvisionedThroughputSettings", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("WriteCapacityAutoScalingSettings")
+        .isEqualTo(autoScalingSettings(minCapacity, maxCapacity, targetUtilizationPercent));
+
+    return this;
+  }
+
+  /**
+   * Verifies the read capacity auto-scaling of the index in every replica of the table.
+   */
+  public DynamoDBGlobalTableAssert hasGlobalSecondaryIndexReadCapacityAutoScaling(final String indexName,
+      final Integer minCapacity,
+      final Integer maxCapacity,
+      final Integer targetUtilizationPercent) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Replicas", InstanceOfAssertFactories.list(Map.class))
+        .isNotEmpty()
+        .allSatisfy(replica -> Assertions.assertThat((Map<String, Object>) replica)
+            .extractingByKey("GlobalSecondaryIndexes", InstanceOfAssertFactories.list(Map.class))
+            .filteredOn(index -> indexName.equals(index.get("IndexName")))
+            .singleElement(InstanceOfAssertFactories.map(String.class, Object.class))
+            .extractingByKey("ReadProvisionedThroughputSettings", InstanceOfAssertFactories.map(String.class, Object.class))
+            .extractingByKey("ReadCapacityAutoScalingSettings")
+            .isEqualTo(autoScalingSettings(minCapacity, maxCapacity, targetUtilizationPercent)));
+
+    return this;
+  }
+
+  private static Map<String, Object> autoScalingSettings(final Integer minCapacity,
+      final Integer maxCapacity,
+      final Integer targetUtilizationPercent) {
+
+    return Map.of("MinCapacity", minCapacity,
+        "MaxCapacity", maxCapacity,
+        "TargetTrackingScalingPolicyConfiguration", Map.of("TargetValue", targetUtilizationPercent));
+  }
 }
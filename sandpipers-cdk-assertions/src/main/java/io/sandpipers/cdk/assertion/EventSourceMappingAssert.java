@@ -0,0 +1,143 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Fluent assertions for <code>AWS::Lambda::EventSourceMapping</code>. This should be used if the resource map is extracted from the AWS template.
+ * Otherwise, start with {@link CDKStackAssert#containsEventSourceMapping(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class EventSourceMappingAssert extends AbstractCDKResourcesAssert<EventSourceMappingAssert, Map<String, Object>> {
+
+  private EventSourceMappingAssert(final Map<String, Object> actual) {
+    super(actual, EventSourceMappingAssert.class);
+  }
+
+  public static EventSourceMappingAssert assertThat(final Map<String, Object> actual) {
+    return new EventSourceMappingAssert(actual);
+  }
+
+  /**
+   * @param expected pattern of the logical id of the function or alias
+   * @return this
+   */
+  public EventSourceMappingAssert hasFunctionName(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(findReference(properties.get("FunctionName")))
+        .isNotNull()
+        .matches(Patterns.compile(expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected pattern of the logical id of the queue, stream or table
+   * @return this
+   */
+  public EventSourceMappingAssert hasEventSource(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> eventSourceArn = (Map<String, Object>) properties.get("EventSourceArn");
+    final List<String> eventSourceGetAtt = (List<String>) eventSourceArn.get("Fn::GetAtt");
+
+    Assertions.assertThat(eventSourceGetAtt)
+        .isNotEmpty()
+        .first()
+        .matches(eventSource -> Patterns.matches(eventSource, expected));
+
+    return this;
+  }
+
+  public EventSourceMappingAssert hasBatchSize(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((Integer) properties.get("BatchSize"))
+        .isInstanceOf(Integer.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public EventSourceMappingAssert hasMaximumBatchingWindowInSeconds(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((Integer) properties.get("MaximumBatchingWindowInSeconds"))
+        .isInstanceOf(Integer.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public EventSourceMappingAssert hasMaximumConcurrency(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> scalingConfig = (Map<String, Object>) properties.get("ScalingConfig");
+
+    Assertions.assertThat(scalingConfig)
+        .isNotNull()
+        .containsEntry("MaximumConcurrency", expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected e.g. <code>ReportBatchItemFailures</code>
+   * @return this
+   */
+  public EventSourceMappingAssert hasFunctionResponseType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final List<String> functionResponseTypes = (List<String>) properties.get("FunctionResponseTypes");
+
+    Assertions.assertThat(functionResponseTypes)
+        .isNotNull()
+        .contains(expected);
+
+    return this;
+  }
+
+  /**
+   * An alias is referenced as <code>Fn::Join</code> of the function name and the alias name, so the first <code>Ref</code> is searched for
+   * recursively.
+   */
+  private static String findReference(final Object value) {
+    if (value instanceof Map<?, ?> map) {
+      if (map.get("Ref") instanceof String reference) {
+        return reference;
+      }
+
+      return map.values().stream()
+          .map(EventSourceMappingAssert::findReference)
+          .filter(reference -> reference != null && !reference.startsWith("AWS::"))
+          .findFirst()
+          .orElse(null);
+    }
+
+    if (value instanceof List<?> list) {
+      return list.stream()
+          .map(EventSourceMappingAssert::findReference)
+          .filter(reference -> reference != null && !reference.startsWith("AWS::"))
+          .findFirst()
+          .orElse(null);
+    }
+
+    return null;
+  }
+}
@@ -43,7 +43,7 @@ public class HostedZoneAssert extends AbstractCDKResourcesAssert<HostedZoneAsser
 
     Assertions.assertThat(name)
         .isNotBlank()
-        .matches(expected);
+        .matches(Patterns.compile(expected));
 
     return this;
   }
@@ -0,0 +1,58 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::ApiGatewayV2::Api</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsHttpApi(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class HttpApiAssert extends AbstractCDKResourcesAssert<HttpApiAssert, Map<String, Object>> {
+
+  private HttpApiAssert(final Map<String, Object> actual) {
+    super(actual, HttpApiAssert.class);
+  }
+
+  public static HttpApiAssert assertThat(final Map<String, Object> actual) {
+    return new HttpApiAssert(actual);
+  }
+
+  public HttpApiAssert hasName(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Name", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  public HttpApiAssert hasProtocolType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ProtocolType", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+}
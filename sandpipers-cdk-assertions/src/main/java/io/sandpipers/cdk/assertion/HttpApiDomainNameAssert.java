@@ -0,0 +1,69 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::ApiGatewayV2::DomainName</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsHttpApiDomainName(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class HttpApiDomainNameAssert extends AbstractCDKResourcesAssert<HttpApiDomainNameAssert, Map<String, Object>> {
+
+  private HttpApiDomainNameAssert(final Map<String, Object> actual) {
+    super(actual, HttpApiDomainNameAssert.class);
+  }
+
+  public static HttpApiDomainNameAssert assertThat(final Map<String, Object> actual) {
+    return new HttpApiDomainNameAssert(actual);
+  }
+
+  public HttpApiDomainNameAssert hasDomainName(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("DomainName", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param certificateArn regex of the logical id of the <code>AWS::CertificateManager::Certificate</code>
+   * @param endpointType expected endpoint type, i.e. <code>REGIONAL</code>
+   * @return this
+   */
+  public HttpApiDomainNameAssert hasDomainNameConfiguration(final String certificateArn, final String endpointType) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("DomainNameConfigurations", InstanceOfAssertFactories.list(Map.class))
+        .anySatisfy(configuration -> {
+          Assertions.assertThat((Map<String, Object>) configuration)
+              .containsEntry("EndpointType", endpointType)
+              .extractingByKey("CertificateArn", InstanceOfAssertFactories.map(String.class, Object.class))
+              .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+              .matches(e -> Patterns.matches(e, certificateArn));
+        });
+
+    return this;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::ApiGatewayV2::Integration</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsHttpApiIntegration(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class HttpApiIntegrationAssert extends AbstractCDKResourcesAssert<HttpApiIntegrationAssert, Map<String, Object>> {
+
+  private HttpApiIntegrationAssert(final Map<String, Object> actual) {
+    super(actual, HttpApiIntegrationAssert.class);
+  }
+
+  public static HttpApiIntegrationAssert assertThat(final Map<String, Object> actual) {
+    return new HttpApiIntegrationAssert(actual);
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::ApiGatewayV2::Api</code>
+   * @return this
+   */
+  public HttpApiIntegrationAssert hasApiId(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ApiId", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  public HttpApiIntegrationAssert hasIntegrationType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("IntegrationType", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  public HttpApiIntegrationAssert hasPayloadFormatVersion(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("PayloadFormatVersion", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the Lambda function the integration proxies to
+   * @return this
+   */
+  public HttpApiIntegrationAssert hasIntegrationUri(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("IntegrationUri", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Fn::GetAtt", InstanceOfAssertFactories.list(String.class))
+        .first(InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+}
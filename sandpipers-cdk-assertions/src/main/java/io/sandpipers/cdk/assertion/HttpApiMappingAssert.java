@@ -0,0 +1,88 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::ApiGatewayV2::ApiMapping</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsHttpApiMapping(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class HttpApiMappingAssert extends AbstractCDKResourcesAssert<HttpApiMappingAssert, Map<String, Object>> {
+
+  private HttpApiMappingAssert(final Map<String, Object> actual) {
+    super(actual, HttpApiMappingAssert.class);
+  }
+
+  public static HttpApiMappingAssert assertThat(final Map<String, Object> actual) {
+    return new HttpApiMappingAssert(actual);
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::ApiGatewayV2::Api</code>
+   * @return this
+   */
+  public HttpApiMappingAssert hasApiId(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ApiId", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::ApiGatewayV2::DomainName</code>
+   * @return this
+   */
+  public HttpApiMappingAssert hasDomainName(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("DomainName", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  public HttpApiMappingAssert hasApiMappingKey(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ApiMappingKey", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  public HttpApiMappingAssert hasStage(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Stage", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+}
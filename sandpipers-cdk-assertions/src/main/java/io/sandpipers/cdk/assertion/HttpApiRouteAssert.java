@@ -0,0 +1,97 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::ApiGatewayV2::Route</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsHttpApiRoute(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class HttpApiRouteAssert extends AbstractCDKResourcesAssert<HttpApiRouteAssert, Map<String, Object>> {
+
+  private HttpApiRouteAssert(final Map<String, Object> actual) {
+    super(actual, HttpApiRouteAssert.class);
+  }
+
+  public static HttpApiRouteAssert assertThat(final Map<String, Object> actual) {
+    return new HttpApiRouteAssert(actual);
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::ApiGatewayV2::Api</code>
+   * @return this
+   */
+  public HttpApiRouteAssert hasApiId(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ApiId", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected route key, e.g. <code>GET /users</code>; <code>$default</code> must be escaped as <code>\$default</code> since it is matched as regex
+   * @return this
+   */
+  public HttpApiRouteAssert hasRouteKey(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("RouteKey", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  public HttpApiRouteAssert hasAuthorizationType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("AuthorizationType", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::ApiGatewayV2::Integration</code> the route targets
+   * @return this
+   */
+  public HttpApiRouteAssert hasIntegration(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Target", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Fn::Join", InstanceOfAssertFactories.LIST)
+        .last(InstanceOfAssertFactories.LIST)
+        .contains("integrations/")
+        .anySatisfy(e -> Assertions.assertThat(e)
+            .asInstanceOf(InstanceOfAssertFactories.map(String.class, Object.class))
+            .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+            .matches(ref -> Patterns.matches(ref, expected)));
+
+    return this;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Serializes calls across the JSII bridge. The JSII runtime talks to a single Node process over one request/response channel that is not safe for
+ * concurrent use, so every synthesis and every {@link software.amazon.awscdk.assertions.Template#toJSON()} done by this library goes through here.
+ * Everything that happens after a template has been indexed is plain Java and needs no locking.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class JsiiBridge {
+
+  private static final ReentrantLock LOCK = new ReentrantLock();
+
+  static <T> T call(final Supplier<T> call) {
+    LOCK.lock();
+    try {
+      return call.get();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Fluent assertions for <code>AWS::Lambda::Alias</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsLambdaAlias(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class LambdaAliasAssert extends AbstractCDKResourcesAssert<LambdaAliasAssert, Map<String, Object>> {
+
+  private LambdaAliasAssert(final Map<String, Object> actual) {
+    super(actual, LambdaAliasAssert.class);
+  }
+
+  public static LambdaAliasAssert assertThat(final Map<String, Object> actual) {
+    return new LambdaAliasAssert(actual);
+  }
+
+  public LambdaAliasAssert hasName(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("Name"))
+        .isInstanceOf(String.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public LambdaAliasAssert hasFunctionName(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, String> functionName = (Map<String, String>) properties.get("FunctionName");
+
+    Assertions.assertThat(functionName.get("Ref"))
+        .matches(Patterns.compile(expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected pattern of the logical id of the <code>AWS::Lambda::Version</code> the alias points to
+   * @return this
+   */
+  public LambdaAliasAssert hasFunctionVersion(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> functionVersion = (Map<String, Object>) properties.get("FunctionVersion");
+    final List<String> versionGetAtt = (List<String>) functionVersion.get("Fn::GetAtt");
+
+    Assertions.assertThat(versionGetAtt)
+        .isNotEmpty()
+        .first()
+        .matches(version -> Patterns.matches(version, expected));
+
+    return this;
+  }
+
+  public LambdaAliasAssert hasProvisionedConcurrentExecutions(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> provisionedConcurrencyConfig = (Map<String, Object>) properties.get("ProvisionedConcurrencyConfig");
+
+    Assertions.assertThat(provisionedConcurrencyConfig)
+        .isNotNull()
+        .containsEntry("ProvisionedConcurrentExecutions", expected);
+
+    return this;
+  }
+}
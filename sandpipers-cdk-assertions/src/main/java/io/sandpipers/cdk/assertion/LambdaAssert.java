@@ -20,6 +20,7 @@ package io.sandpipers.cdk.assertion;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 
 /**
  * Fluent assertions for <code>AWS::Lambda::Function</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
@@ -65,10 +66,10 @@ public class LambdaAssert extends AbstractCDKResourcesAssert<LambdaAssert, Map<S
     String actualS3Key = (String) lambdaCode.get("S3Key");
 
     Assertions.assertThat(actualS3Bucket)
-        .matches(s3Bucket);
+        .matches(Patterns.compile(s3Bucket));
 
     Assertions.assertThat(actualS3Key)
-        .matches(s3Key);
+        .matches(Patterns.compile(s3Key));
 
     return this;
   }
@@ -104,7 +105,7 @@ public class LambdaAssert extends AbstractCDKResourcesAssert<LambdaAssert, Map<S
         .isInstanceOf(List.class)
         .anySatisfy(s -> Assertions.assertThat(s)
             .isInstanceOf(String.class)
-            .matches(e -> e.matches(arnRegex)));
+            .matches(e -> Patterns.matches(e, arnRegex)));
 
     return this;
   }
@@ -118,14 +119,159 @@ public class LambdaAssert extends AbstractCDKResourcesAssert<LambdaAssert, Map<S
       final List<String> list = (List<String>) actualTargetArn.get("Fn::GetAtt");
       Assertions.assertThat(list)
           .isNotEmpty()
-          .anySatisfy(e -> Assertions.assertThat(e).matches(targetArn));
+          .anySatisfy(e -> Assertions.assertThat(e).matches(Patterns.compile(targetArn)));
     } else {
       Assertions.assertThat(actualTargetArn)
           .isInstanceOf(Map.class)
           .anySatisfy((key, value) -> Assertions.assertThat(key)
-              .matches(e -> e.matches("Ref") && String.valueOf(value).matches(targetArn)));
+              .matches(e -> "Ref".equals(e) && Patterns.matches(String.valueOf(value), targetArn)));
     }
 
     return this;
   }
+
+  public LambdaAssert hasArchitecture(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final List<String> architectures = (List<String>) properties.get("Architectures");
+
+    Assertions.assertThat(architectures)
+        .isNotNull()
+        .containsExactly(expected);
+
+    return this;
+  }
+
+  public LambdaAssert hasReservedConcurrentExecutions(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Integer reservedConcurrentExecutions = (Integer) properties.get("ReservedConcurrentExecutions");
+
+    Assertions.assertThat(reservedConcurrentExecutions)
+        .isInstanceOf(Integer.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  /**
+   * @param expectedInMebibytes size of <code>/tmp</code> in MiB
+   * @return this
+   */
+  public LambdaAssert hasEphemeralStorageSize(final Integer expectedInMebibytes) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> ephemeralStorage = (Map<String, Object>) properties.get("EphemeralStorage");
+
+    Assertions.assertThat(ephemeralStorage)
+        .isNotNull()
+        .containsEntry("Size", expectedInMebibytes);
+
+    return this;
+  }
+
+  /**
+   * @param expected tracing mode, <code>Active</code> or <code>PassThrough</code>
+   * @return this
+   */
+  public LambdaAssert hasTracingMode(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> tracingConfig = (Map<String, Object>) properties.get("TracingConfig");
+
+    Assertions.assertThat(tracingConfig)
+        .isNotNull()
+        .containsEntry("Mode", expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected log format, <code>JSON</code> or <code>Text</code>
+   * @return this
+   */
+  public LambdaAssert hasLogFormat(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> loggingConfig = (Map<String, Object>) properties.get("LoggingConfig");
+
+    Assertions.assertThat(loggingConfig)
+        .isNotNull()
+        .containsEntry("LogFormat", expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected <code>PublishedVersions</code>
+   * @return this
+   */
+  public LambdaAssert hasSnapStart(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> snapStart = (Map<String, Object>) properties.get("SnapStart");
+
+    Assertions.assertThat(snapStart)
+        .isNotNull()
+        .containsEntry("ApplyOn", expected);
+
+    return this;
+  }
+
+  /**
+   * @param layerArnRegex pattern of the layer ARN, of the logical id of a layer defined in the same stack, or of the mapping name when the ARN is
+   *                      looked up per region, e.g. <code>CloudwatchlambdainsightsversionMap</code> for Lambda Insights
+   * @return this
+   */
+  public LambdaAssert hasLayer(final String layerArnRegex) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final List<Object> layers = (List<Object>) properties.get("Layers");
+
+    Assertions.assertThat(layers)
+        .isNotNull()
+        .anySatisfy(layer -> Assertions.assertThat(referenceOf(layer))
+            .matches(Patterns.compile(layerArnRegex)));
+
+    return this;
+  }
+
+  public LambdaAssert hasSecurityGroup(final String securityGroupIdRegex) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> vpcConfig = (Map<String, Object>) properties.get("VpcConfig");
+
+    Assertions.assertThat(vpcConfig)
+        .isNotNull()
+        .extractingByKey("SecurityGroupIds")
+        .asInstanceOf(InstanceOfAssertFactories.LIST)
+        .anySatisfy(securityGroupId -> Assertions.assertThat(referenceOf(securityGroupId))
+            .matches(Patterns.compile(securityGroupIdRegex)));
+
+    return this;
+  }
+
+  public LambdaAssert hasSubnet(final String subnetIdRegex) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> vpcConfig = (Map<String, Object>) properties.get("VpcConfig");
+
+    Assertions.assertThat(vpcConfig)
+        .isNotNull()
+        .extractingByKey("SubnetIds")
+        .asInstanceOf(InstanceOfAssertFactories.LIST)
+        .anySatisfy(subnetId -> Assertions.assertThat(referenceOf(subnetId))
+            .matches(Patterns.compile(subnetIdRegex)));
+
+    return this;
+  }
+
+  private static String referenceOf(final Object value) {
+    if (value instanceof Map<?, ?> map) {
+      if (map.containsKey("Ref")) {
+        return String.valueOf(map.get("Ref"));
+      }
+
+      if (map.get("Fn::GetAtt") instanceof List<?> getAtt && !getAtt.isEmpty()) {
+        return String.valueOf(getAtt.getFirst());
+      }
+
+      if (map.get("Fn::FindInMap") instanceof List<?> findInMap && !findInMap.isEmpty()) {
+        return String.valueOf(findInMap.getFirst());
+      }
+    }
+
+    return String.valueOf(value);
+  }
 }
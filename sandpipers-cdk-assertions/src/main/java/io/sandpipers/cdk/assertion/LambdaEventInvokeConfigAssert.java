@@ -47,7 +47,7 @@ public class LambdaEventInvokeConfigAssert extends
 
     Assertions.assertThat(actualFunctionName)
         .isInstanceOf(String.class)
-        .matches(actual -> actual.matches(expectedFunctionName));
+        .matches(actual -> Patterns.matches(actual, expectedFunctionName));
 
     final Map<String, Object> destinationConfig = (Map<String, Object>) properties.get("DestinationConfig");
 
@@ -56,14 +56,14 @@ public class LambdaEventInvokeConfigAssert extends
 
       Assertions.assertThat(actualSuccessDestinationConfig)
           .isInstanceOf(String.class)
-          .matches(expectedSuccessEventDestination);
+          .matches(Patterns.compile(expectedSuccessEventDestination));
     }
 
     if (isNotBlank(expectedFailureEventDestination)) {
       final String actualFailureDestinationConfig = getEventFailureDestination(destinationConfig);
       Assertions.assertThat(actualFailureDestinationConfig)
           .isInstanceOf(String.class)
-          .matches(expectedFailureEventDestination);
+          .matches(Patterns.compile(expectedFailureEventDestination));
     }
 
     return this;
@@ -103,7 +103,7 @@ public class LambdaEventInvokeConfigAssert extends
     final String functionReference = functionName.get("Ref");
 
     Assertions.assertThat(functionReference)
-        .matches(actual -> actual.matches(expected));
+        .matches(actual -> Patterns.matches(actual, expected));
 
     return this;
   }
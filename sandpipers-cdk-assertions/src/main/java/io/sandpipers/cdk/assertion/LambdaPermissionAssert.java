@@ -59,13 +59,13 @@ public class LambdaPermissionAssert extends AbstractCDKResourcesAssert<LambdaPer
           .isNotNull()
           .hasAtLeastOneElementOfType(String.class)
           .anySatisfy(e -> Assertions.assertThat((String) e)
-              .matches(func -> func.matches(functionName)));
+              .matches(func -> Patterns.matches(func, functionName)));
     });
 
     if (isNotBlank(principal)) {
       mapAssert.satisfies(s -> Assertions.assertThat(s)
           .extracting("Principal")
-          .matches(e -> e.toString().matches(principal)));
+          .matches(e -> Patterns.matches(e.toString(), principal)));
     }
 
     final Map<String, Object> sourceArn = (Map<String, Object>) properties.get("SourceArn");
@@ -74,7 +74,7 @@ public class LambdaPermissionAssert extends AbstractCDKResourcesAssert<LambdaPer
     Assertions.assertThat(actualSourceArn)
         .isNotNull()
         .isInstanceOf(String.class)
-        .matches(actual -> actual.matches(expectedSourceArn));
+        .matches(actual -> Patterns.matches(actual, expectedSourceArn));
 
     return this;
   }
@@ -0,0 +1,68 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bounded, least-recently-used cache of compiled {@link Pattern}s shared by the assertion classes. Assertions are usually called with a small set of
+ * logical-id patterns (e.g. <code>^Function[A-Z0-9]{8}$</code>) many times over, so each pattern is compiled once instead of on every
+ * {@link String#matches(String)} call.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Patterns {
+
+  private static final int MAX_CACHED_PATTERNS = 512;
+
+  private static final Map<String, Pattern> PATTERNS = Collections.synchronizedMap(
+      new LinkedHashMap<>(MAX_CACHED_PATTERNS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Entry<String, Pattern> eldest) {
+          return size() > MAX_CACHED_PATTERNS;
+        }
+      });
+
+  /**
+   * @param regex regular expression
+   * @return the compiled pattern, from the cache if it has been compiled before
+   */
+  public static Pattern compile(final String regex) {
+    requireNonNull(regex, "'regex' must not be null");
+
+    return PATTERNS.computeIfAbsent(regex, Pattern::compile);
+  }
+
+  /**
+   * Equivalent to {@link String#matches(String)} but with the pattern taken from the cache.
+   *
+   * @param input the string to match
+   * @param regex regular expression the whole input must match
+   * @return {@code true} if the input is not {@code null} and matches the regex
+   */
+  public static boolean matches(final String input, final String regex) {
+    return input != null && compile(regex).matcher(input).matches();
+  }
+}
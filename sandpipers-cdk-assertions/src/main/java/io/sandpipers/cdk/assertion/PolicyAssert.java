@@ -20,6 +20,7 @@ package io.sandpipers.cdk.assertion;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 
 /**
  * Fluent assertions for <code>AWS::IAM::Policy</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
@@ -44,7 +45,7 @@ public class PolicyAssert extends
     Assertions.assertThat(policyName)
         .isNotNull()
         .isInstanceOf(String.class)
-        .matches(actualPolicyName -> actualPolicyName.matches(expected));
+        .matches(actualPolicyName -> Patterns.matches(actualPolicyName, expected));
 
     return this;
   }
@@ -63,13 +64,33 @@ public class PolicyAssert extends
     return hasPolicy(principal, resource, effect, policyDocumentVersion, action, policyDocument);
   }
 
+  /**
+   * Verifies the policy has a statement with exactly <code>actions</code> on a resource given as a literal, e.g. <code>*</code>, rather than a reference.
+   */
+  public PolicyAssert hasPolicyDocumentStatement(final List<String> actions,
+      final String resource,
+      final String effect) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("PolicyDocument", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Statement", InstanceOfAssertFactories.list(Map.class))
+        .anySatisfy(statement -> Assertions.assertThat((Map<String, Object>) statement)
+            .containsEntry("Effect", effect)
+            .containsEntry("Resource", resource)
+            .extractingByKey("Action", InstanceOfAssertFactories.list(String.class))
+            .containsExactlyInAnyOrderElementsOf(actions));
+
+    return this;
+  }
+
   public PolicyAssert isAssociatedWithRole(final String expected) {
     final List<Object> roles = ((Map<String, List<Object>>) actual.get("Properties")).get("Roles");
 
     Assertions.assertThat(roles)
         .isNotNull()
         .isNotEmpty()
-        .allMatch(role -> ((Map<String, String>) role).get("Ref").matches(expected));
+        .allMatch(role -> Patterns.matches(((Map<String, String>) role).get("Ref"), expected));
 
     return this;
   }
@@ -49,7 +49,7 @@ public class QueueAssert extends AbstractCDKResourcesAssert<QueueAssert, Map<Str
         .isInstanceOf(List.class)
         .anySatisfy(s -> Assertions.assertThat(s)
             .isInstanceOf(String.class)
-            .matches(e -> e.matches(expected)));
+            .matches(e -> Patterns.matches(e, expected)));
 
     return this;
   }
@@ -120,4 +120,28 @@ public class QueueAssert extends AbstractCDKResourcesAssert<QueueAssert, Map<Str
 
     return this;
   }
+
+  public QueueAssert hasVisibilityTimeout(final Integer expectedInSeconds) {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Integer visibilityTimeout = (Integer) properties.get("VisibilityTimeout");
+
+    Assertions.assertThat(visibilityTimeout)
+        .isEqualTo(expectedInSeconds);
+
+    return this;
+  }
+
+  /**
+   * Verifies that the queue is a FIFO queue in high throughput mode, i.e. <code>DeduplicationScope</code> is <code>messageGroup</code> and
+   * <code>FifoThroughputLimit</code> is <code>perMessageGroupId</code>.
+   *
+   * @return this
+   */
+  public QueueAssert isHighThroughputFifo() {
+
+    return isFifo(true)
+        .hasDeduplicationScope("messageGroup")
+        .hasFifoThroughputLimit("perMessageGroupId");
+  }
 }
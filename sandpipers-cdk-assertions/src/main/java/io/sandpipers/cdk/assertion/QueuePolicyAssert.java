@@ -22,6 +22,7 @@ import static org.apache.commons.lang3.StringUtils.isNoneBlank;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 
 /**
  * Fluent assertions for <code>AWS::SQS::QueuePolicy</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
@@ -59,7 +60,7 @@ public class QueuePolicyAssert extends AbstractCDKResourcesAssert<QueuePolicyAss
         .hasSize(1)
         .extracting("Ref")
         .element(0)
-        .matches(e -> ((String) e).matches(queueReference));
+        .matches(e -> Patterns.matches((String) e, queueReference));
 
     boolean actionFound = false;
     boolean principalServiceFound = false;
@@ -76,7 +77,7 @@ public class QueuePolicyAssert extends AbstractCDKResourcesAssert<QueuePolicyAss
           "Fn::GetAtt");
 
       final String resource = (String) resources.get(0);
-      resourceFound = isNoneBlank(resource) && resource.matches(policyStatementResource);
+      resourceFound = isNoneBlank(resource) && Patterns.matches(resource, policyStatementResource);
     }
 
     Assertions.assertThat(policyDocument.get("Version"))
@@ -136,7 +137,7 @@ public class QueuePolicyAssert extends AbstractCDKResourcesAssert<QueuePolicyAss
           (Map<String, Object>) conditionType.get(policyStatementConditionSourceType);
 
       conditionMatch =
-          ((String) conditionSourceType.get("Ref")).matches(policyStatementConditionSourceArn);
+          Patterns.matches((String) conditionSourceType.get("Ref"), policyStatementConditionSourceArn);
     }
 
     Assertions.assertThat(conditionMatch)
@@ -145,4 +146,31 @@ public class QueuePolicyAssert extends AbstractCDKResourcesAssert<QueuePolicyAss
     return this;
   }
 
-}
\ No newline at end of file
+  /**
+   * Verifies that a statement only applies when <code>aws:SourceArn</code> equals the given topic, queue or bucket.
+   *
+   * @param expected pattern of the logical id of the source
+   * @return this
+   */
+  public QueuePolicyAssert hasSourceArnCondition(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> policyDocument = (Map<String, Object>) properties.get("PolicyDocument");
+    final List<Map<String, Object>> statements = (List<Map<String, Object>>) policyDocument.get("Statement");
+
+    Assertions.assertThat(statements)
+        .anySatisfy(statement -> {
+          Assertions.assertThat(statement)
+              .extractingByKey("Condition")
+              .asInstanceOf(InstanceOfAssertFactories.MAP)
+              .extractingByKey("ArnEquals")
+              .asInstanceOf(InstanceOfAssertFactories.MAP)
+              .extractingByKey("aws:SourceArn")
+              .asInstanceOf(InstanceOfAssertFactories.MAP)
+              .extractingByKey("Ref")
+              .asInstanceOf(InstanceOfAssertFactories.STRING)
+              .matches(Patterns.compile(expected));
+        });
+
+    return this;
+  }
+}
@@ -44,7 +44,7 @@ public class RecordSetAssert extends AbstractCDKResourcesAssert<RecordSetAssert,
 
     Assertions.assertThat(name)
         .isNotBlank()
-        .matches(expected);
+        .matches(Patterns.compile(expected));
 
     return this;
   }
@@ -55,7 +55,7 @@ public class RecordSetAssert extends AbstractCDKResourcesAssert<RecordSetAssert,
 
     Assertions.assertThat(type)
         .isNotBlank()
-        .matches(expected);
+        .matches(Patterns.compile(expected));
 
     return this;
   }
@@ -78,7 +78,7 @@ public class RecordSetAssert extends AbstractCDKResourcesAssert<RecordSetAssert,
     Assertions.assertThat(hostedZoneId)
         .isNotNull()
         .isNotEmpty()
-        .anySatisfy((k,v) -> Assertions.assertThat(v).matches(id));
+        .anySatisfy((k,v) -> Assertions.assertThat(v).matches(Patterns.compile(id)));
 
     return this;
   }
@@ -19,6 +19,7 @@ package io.sandpipers.cdk.assertion;
 
 import java.util.Map;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 
 /**
  * Fluent assertions for <code>AWS::ApiGateway::RestApi</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
@@ -41,7 +42,30 @@ public class RestApiAssert extends AbstractCDKResourcesAssert<RestApiAssert, Map
 
     Assertions.assertThat(name)
         .isNotBlank()
-        .matches(expected);
+        .matches(Patterns.compile(expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected smallest response size in bytes that is compressed
+   * @return this
+   */
+  public RestApiAssert hasMinimumCompressionSize(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .containsEntry("MinimumCompressionSize", expected);
+
+    return this;
+  }
+
+  public RestApiAssert hasBinaryMediaType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("BinaryMediaTypes", InstanceOfAssertFactories.list(String.class))
+        .contains(expected);
 
     return this;
   }
@@ -57,7 +57,7 @@ public class RoleAssert extends AbstractCDKResourcesAssert<RoleAssert, Map<Strin
                       .flatExtracting(joinElement -> joinElement instanceof List ? (List<Object>) joinElement : Collections.emptyList())
                       .anySatisfy(joinElement ->
                           Assertions.assertThat(joinElement)
-                              .matches(e -> e.toString().matches(managedPolicyArnString)));
+                              .matches(e -> Patterns.matches(e.toString(), managedPolicyArnString)));
                 }
               });
         });
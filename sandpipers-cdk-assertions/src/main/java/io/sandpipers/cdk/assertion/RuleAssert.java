@@ -0,0 +1,135 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Fluent assertions for <code>AWS::Events::Rule</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
+ * {@link CDKStackAssert#containsRule(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class RuleAssert extends AbstractCDKResourcesAssert<RuleAssert, Map<String, Object>> {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private RuleAssert(final Map<String, Object> actual) {
+    super(actual, RuleAssert.class);
+  }
+
+  public static RuleAssert assertThat(final Map<String, Object> actual) {
+    return new RuleAssert(actual);
+  }
+
+  /**
+   * @param expected e.g. <code>rate(5 minutes)</code>
+   * @return this
+   */
+  public RuleAssert hasScheduleExpression(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("ScheduleExpression"))
+        .isInstanceOf(String.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public RuleAssert hasState(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("State"))
+        .isInstanceOf(String.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public RuleAssert hasTargetCount(final int expected) {
+    Assertions.assertThat(getTargets())
+        .hasSize(expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected pattern of the logical id of the target, e.g. of a function or an alias
+   * @return this
+   */
+  public RuleAssert hasTarget(final String expected) {
+    Assertions.assertThat(getTargets())
+        .anySatisfy(target -> Assertions.assertThat(getTargetReference(target))
+            .matches(Patterns.compile(expected)));
+
+    return this;
+  }
+
+  /**
+   * Verifies that at least one target is sent a constant JSON input containing the given entry.
+   *
+   * @param key      top-level key of the input
+   * @param expected value of the key, compared after JSON deserialization, e.g. numbers are {@link Integer}
+   * @return this
+   */
+  public RuleAssert hasTargetInputEntry(final String key, final Object expected) {
+    Assertions.assertThat(getTargets())
+        .anySatisfy(target -> Assertions.assertThat(readInput(target))
+            .containsEntry(key, expected));
+
+    return this;
+  }
+
+  private List<Map<String, Object>> getTargets() {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final List<Map<String, Object>> targets = (List<Map<String, Object>>) properties.get("Targets");
+
+    Assertions.assertThat(targets)
+        .isNotNull();
+
+    return targets;
+  }
+
+  private static String getTargetReference(final Map<String, Object> target) {
+    final Map<String, Object> arn = (Map<String, Object>) target.get("Arn");
+
+    if (arn.get("Fn::GetAtt") instanceof List<?> getAtt && !getAtt.isEmpty()) {
+      return String.valueOf(getAtt.getFirst());
+    }
+
+    return String.valueOf(arn.get("Ref"));
+  }
+
+  private static Map<String, Object> readInput(final Map<String, Object> target) {
+    final String input = (String) target.get("Input");
+
+    Assertions.assertThat(input)
+        .isNotNull();
+
+    try {
+      return OBJECT_MAPPER.readValue(input, new TypeReference<>() {
+      });
+    } catch (final JsonProcessingException e) {
+      throw new AssertionError("Expected target input to be a JSON object but was <%s>".formatted(input), e);
+    }
+  }
+}
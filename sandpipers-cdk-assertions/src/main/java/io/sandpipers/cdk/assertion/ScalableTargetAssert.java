@@ -0,0 +1,85 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Fluent assertions for <code>AWS::ApplicationAutoScaling::ScalableTarget</code>. This should be used if the resource map is extracted from the AWS
+ * template. Otherwise, start with {@link CDKStackAssert#containsScalableTarget(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class ScalableTargetAssert extends AbstractCDKResourcesAssert<ScalableTargetAssert, Map<String, Object>> {
+
+  private ScalableTargetAssert(final Map<String, Object> actual) {
+    super(actual, ScalableTargetAssert.class);
+  }
+
+  public static ScalableTargetAssert assertThat(final Map<String, Object> actual) {
+    return new ScalableTargetAssert(actual);
+  }
+
+  public ScalableTargetAssert hasMinCapacity(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((Integer) properties.get("MinCapacity"))
+        .isInstanceOf(Integer.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  public ScalableTargetAssert hasMaxCapacity(final Integer expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((Integer) properties.get("MaxCapacity"))
+        .isInstanceOf(Integer.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected e.g. <code>lambda:function:ProvisionedConcurrency</code>
+   * @return this
+   */
+  public ScalableTargetAssert hasScalableDimension(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("ScalableDimension"))
+        .isInstanceOf(String.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected e.g. <code>lambda</code>
+   * @return this
+   */
+  public ScalableTargetAssert hasServiceNamespace(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("ServiceNamespace"))
+        .isInstanceOf(String.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+}
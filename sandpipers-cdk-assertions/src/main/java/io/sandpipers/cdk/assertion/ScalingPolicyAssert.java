@@ -0,0 +1,99 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Fluent assertions for <code>AWS::ApplicationAutoScaling::ScalingPolicy</code>. This should be used if the resource map is extracted from the AWS
+ * template. Otherwise, start with {@link CDKStackAssert#containsScalingPolicy(String)}.
+ */
+@SuppressWarnings("unchecked")
+public class ScalingPolicyAssert extends AbstractCDKResourcesAssert<ScalingPolicyAssert, Map<String, Object>> {
+
+  private ScalingPolicyAssert(final Map<String, Object> actual) {
+    super(actual, ScalingPolicyAssert.class);
+  }
+
+  public static ScalingPolicyAssert assertThat(final Map<String, Object> actual) {
+    return new ScalingPolicyAssert(actual);
+  }
+
+  /**
+   * @param expected e.g. <code>TargetTrackingScaling</code>
+   * @return this
+   */
+  public ScalingPolicyAssert hasPolicyType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("PolicyType"))
+        .isInstanceOf(String.class)
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected pattern of the logical id of the <code>AWS::ApplicationAutoScaling::ScalableTarget</code>
+   * @return this
+   */
+  public ScalingPolicyAssert hasScalingTarget(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, String> scalingTargetId = (Map<String, String>) properties.get("ScalingTargetId");
+
+    Assertions.assertThat(scalingTargetId.get("Ref"))
+        .matches(Patterns.compile(expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected e.g. <code>LambdaProvisionedConcurrencyUtilization</code>
+   * @return this
+   */
+  public ScalingPolicyAssert hasPredefinedMetricType(final String expected) {
+    final Map<String, Object> configuration = getTargetTrackingScalingPolicyConfiguration();
+    final Map<String, Object> metricSpecification = (Map<String, Object>) configuration.get("PredefinedMetricSpecification");
+
+    Assertions.assertThat(metricSpecification)
+        .isNotNull()
+        .containsEntry("PredefinedMetricType", expected);
+
+    return this;
+  }
+
+  public ScalingPolicyAssert hasTargetValue(final Double expected) {
+    final Map<String, Object> configuration = getTargetTrackingScalingPolicyConfiguration();
+
+    Assertions.assertThat(((Number) configuration.get("TargetValue")).doubleValue())
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  private Map<String, Object> getTargetTrackingScalingPolicyConfiguration() {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> configuration = (Map<String, Object>) properties.get("TargetTrackingScalingPolicyConfiguration");
+
+    Assertions.assertThat(configuration)
+        .isNotNull();
+
+    return configuration;
+  }
+}
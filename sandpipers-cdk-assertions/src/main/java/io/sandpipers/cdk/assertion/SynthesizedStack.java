@@ -0,0 +1,70 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import io.sandpipers.cdk.core.AbstractApp;
+import org.junit.jupiter.api.extension.ExtendWith;
+import software.amazon.awscdk.Stack;
+
+/**
+ * Declares the stack a test class verifies. The stack is synthesized once per JVM by {@link SynthesizedTemplates} and the resulting
+ * {@link software.amazon.awscdk.assertions.Template} is injected into any test, lifecycle method or constructor parameter of that type.
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * @SynthesizedStack(app = Application.class, stack = LambdaStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
+ * class LambdaTest {
+ *
+ *   @Test
+ *   void should_have_lambda_function(final Template template) {
+ *     CDKStackAssert.assertThat(template)
+ *         .containsFunction("^Function[A-Z0-9]{8}$");
+ *   }
+ * }
+ * }</pre>
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SynthesizedTemplateExtension.class)
+public @interface SynthesizedStack {
+
+  /**
+   * @return the application the stack belongs to. It must have a public no-args constructor.
+   */
+  Class<? extends AbstractApp> app();
+
+  /**
+   * @return the stack under test. It must have a public constructor accepting the application and its environment, e.g.
+   * <code>LambdaStack(AbstractApp, Environment)</code>.
+   */
+  Class<? extends Stack> stack();
+
+  /**
+   * @return the key the environment is registered under, see {@link io.sandpipers.cdk.core.AbstractEnvironment#of(io.sadpipers.cdk.type.SafeString)}
+   */
+  String environment();
+}
@@ -0,0 +1,48 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+import software.amazon.awscdk.assertions.Template;
+
+/**
+ * Resolves {@link Template} parameters of test classes annotated with {@link SynthesizedStack}. Registered by {@link SynthesizedStack}, so it does not
+ * need to be declared with {@link org.junit.jupiter.api.extension.ExtendWith} explicitly.
+ */
+public class SynthesizedTemplateExtension implements ParameterResolver {
+
+  @Override
+  public boolean supportsParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+    return parameterContext.getParameter().getType() == Template.class;
+  }
+
+  @Override
+  public Template resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+    final Class<?> testClass = extensionContext.getRequiredTestClass();
+
+    final SynthesizedStack synthesizedStack = AnnotationSupport.findAnnotation(testClass, SynthesizedStack.class)
+        .orElseThrow(() -> new ExtensionConfigurationException("Test class <%s> must be annotated with @%s"
+            .formatted(testClass.getName(), SynthesizedStack.class.getSimpleName())));
+
+    return SynthesizedTemplates.get(synthesizedStack.app(), synthesizedStack.stack(), synthesizedStack.environment());
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import static java.util.Objects.requireNonNull;
+
+import io.sadpipers.cdk.type.SafeString;
+import io.sandpipers.cdk.core.AbstractApp;
+import io.sandpipers.cdk.core.AbstractEnvironment;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import software.amazon.awscdk.AssetStaging;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.assertions.Template;
+
+/**
+ * JVM-wide cache of synthesized stacks, keyed by application class, stack class and environment key.
+ * <p>
+ * Each stack is created the same way the example tests used to do it in their <code>@BeforeAll</code>: a new application, a new stack in the given
+ * environment, tagged with {@link AbstractApp#tagResources}, then {@link Template#fromStack(Stack)}. This happens once, no matter how many test
+ * classes ask for the same stack.
+ * </p>
+ * <p>
+ * If enabled, synthesized templates are also written to <code>target/</code> by {@link TemplateSnapshots}, keyed by a hash of the stack, the
+ * environment and the test runtime. When nothing has changed, the next run loads the snapshot with {@link Template#fromJSON(Map)} instead of building
+ * and synthesizing the construct tree again. Stacks with assets are always synthesized.
+ * </p>
+ * <p>
+ * This class is thread-safe. Syntheses are serialized through the JSII bridge and each template is indexed before it is handed out, so test classes
+ * running in parallel only ever read an immutable {@link TemplateIndex}.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SynthesizedTemplates {
+
+  private static final Map<StackKey, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+  /**
+   * @param appClass application the stack belongs to, must have a public no-args constructor
+   * @param stackClass stack to synthesize, must have a public <code>(AbstractApp, AbstractEnvironment)</code>-compatible constructor
+   * @param environmentKey key the environment is registered under
+   * @return the synthesized template, from the cache if the stack has been synthesized before
+   */
+  public static Template get(final Class<? extends AbstractApp> appClass,
+      final Class<? extends Stack> stackClass,
+      final String environmentKey) {
+
+    requireNonNull(appClass, "'appClass' must not be null");
+    requireNonNull(stackClass, "'stackClass' must not be null");
+    requireNonNull(environmentKey, "'environmentKey' must not be null");
+
+    return TEMPLATES.computeIfAbsent(new StackKey(appClass, stackClass, environmentKey), SynthesizedTemplates::load);
+  }
+
+  private static Template load(final StackKey key) {
+    final Constructor<?> stackConstructor = findStackConstructor(key);
+    final AbstractEnvironment environment = JsiiBridge.call(() -> environmentOf(key, stackConstructor));
+
+    if (!TemplateSnapshots.isEnabled()) {
+      final Template template = JsiiBridge.call(() -> synthesize(key, stackConstructor, environment)).template();
+      TemplateIndex.of(template);
+      return template;
+    }
+
+    final Path directory = TemplateSnapshots.directory();
+    final String name = key.stackClass().getSimpleName();
+    final String hash = TemplateSnapshots.hash(
+        List.of(
+            RuntimeHash.VALUE,
+            key.appClass().getName(),
+            key.stackClass().getName(),
+            environment.getEnvironmentKey().toString(),
+            environment.getEnvironmentName().toString(),
+            Objects.toString(environment.getAwsEnvironment().getAccount()),
+            Objects.toString(environment.getAwsEnvironment().getRegion()),
+            environment.getCostCentre().getValueAsString()),
+        List.of());
+
+    final Optional<Map<String, Object>> snapshot = TemplateSnapshots.load(directory, name, hash);
+    if (snapshot.isPresent()) {
+      final Template template = JsiiBridge.call(() -> Template.fromJSON(snapshot.get()));
+      TemplateIndex.of(template, snapshot.get());
+      return template;
+    }
+
+    final Synthesis synthesis = JsiiBridge.call(() -> synthesize(key, stackConstructor, environment));
+    final Map<String, Object> templateJson = JsiiBridge.call(synthesis.template()::toJSON);
+    TemplateIndex.of(synthesis.template(), templateJson);
+
+    // the hash can't cover asset contents, they are only fingerprinted while synthesizing
+    if (!JsiiBridge.call(synthesis::hasAssets)) {
+      TemplateSnapshots.store(directory, name, hash, templateJson);
+    }
+
+    return synthesis.template();
+  }
+
+  private static AbstractEnvironment environmentOf(final StackKey key, final Constructor<?> stackConstructor) {
+    final Class<?> environmentClass = stackConstructor.getParameterTypes()[1];
+
+    try {
+      // environments register themselves in a static initializer, make sure it has run before the lookup
+      Class.forName(environmentClass.getName(), true, environmentClass.getClassLoader());
+    } catch (final ClassNotFoundException e) {
+      throw new ExtensionConfigurationException("Could not load <%s>".formatted(environmentClass.getName()), e);
+    }
+
+    final AbstractEnvironment environment = AbstractEnvironment.of(SafeString.of(key.environmentKey()));
+    if (!environmentClass.isInstance(environment)) {
+      throw new ExtensionConfigurationException("Environment <%s> is a <%s>, but <%s> expects a <%s>"
+          .formatted(key.environmentKey(), environment.getClass().getName(), key.stackClass().getName(), environmentClass.getName()));
+    }
+
+    return environment;
+  }
+
+  private static Synthesis synthesize(final StackKey key,
+      final Constructor<?> stackConstructor,
+      final AbstractEnvironment environment) {
+
+    try {
+      final AbstractApp app = key.appClass().getConstructor().newInstance();
+      final Stack stack = (Stack) stackConstructor.newInstance(app, environment);
+      AbstractApp.tagResources(stack, environment, app.getApplicationName());
+
+      return new Synthesis(stack, Template.fromStack(stack));
+    } catch (final ReflectiveOperationException e) {
+      final Throwable cause = e instanceof InvocationTargetException ite ? ite.getTargetException() : e;
+      throw new ExtensionConfigurationException("Could not synthesize <%s>".formatted(key.stackClass().getName()), cause);
+    }
+  }
+
+  private static Constructor<?> findStackConstructor(final StackKey key) {
+    return Arrays.stream(key.stackClass().getConstructors())
+        .filter(constructor -> constructor.getParameterCount() == 2)
+        .filter(constructor -> constructor.getParameterTypes()[0].isAssignableFrom(key.appClass()))
+        .filter(constructor -> AbstractEnvironment.class.isAssignableFrom(constructor.getParameterTypes()[1]))
+        .findFirst()
+        .orElseThrow(() -> new ExtensionConfigurationException("<%s> must have a public constructor accepting <%s> and an environment"
+            .formatted(key.stackClass().getName(), key.appClass().getName())));
+  }
+
+  private record StackKey(Class<? extends AbstractApp> appClass, Class<? extends Stack> stackClass, String environmentKey) {
+
+  }
+
+  private record Synthesis(Stack stack, Template template) {
+
+    boolean hasAssets() {
+      return stack.getNode().findAll().stream().anyMatch(AssetStaging.class::isInstance);
+    }
+  }
+
+  /**
+   * Hash of the test runtime, computed once per JVM as hashing the classpath reads every class directory and jar on it.
+   */
+  private static final class RuntimeHash {
+
+    private static final String VALUE = TemplateSnapshots.hash(TemplateSnapshots.runtimeInputs(), TemplateSnapshots.classpath());
+  }
+}
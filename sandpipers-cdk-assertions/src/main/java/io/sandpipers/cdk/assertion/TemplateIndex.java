@@ -0,0 +1,155 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+import software.amazon.awscdk.assertions.Template;
+
+/**
+ * Immutable, Java-side index of the resources of a synthesized template, grouped by resource type and keyed by logical id.
+ * <p>
+ * The template is read across the JSII bridge once (via {@link Template#toJSON()}) and every subsequent lookup is done in memory. Indexes are cached per
+ * {@link Template} instance, so chained {@link CDKStackAssert} calls on the same template share one index.
+ * </p>
+ * <p>
+ * Indexes are immutable and safe to share between threads, so assertions on the same template can run concurrently.
+ * </p>
+ */
+@SuppressWarnings("unchecked")
+public final class TemplateIndex {
+
+  private static final String RESOURCES = "Resources";
+  private static final String TYPE = "Type";
+
+  private static final Map<Template, TemplateIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final Map<String, Map<String, Map<String, Object>>> resourcesByType;
+
+  private TemplateIndex(final Map<String, Map<String, Map<String, Object>>> resourcesByType) {
+    this.resourcesByType = resourcesByType;
+  }
+
+  /**
+   * @param template synthesized template
+   * @return the index of the given template, built on first use
+   */
+  public static TemplateIndex of(final Template template) {
+    requireNonNull(template, "'template' must not be null");
+
+    final TemplateIndex cached = INDEXES.get(template);
+    if (cached != null) {
+      return cached;
+    }
+
+    // built outside the map's lock so that a slow toJSON() does not block lookups of other templates
+    final TemplateIndex index = of(JsiiBridge.call(template::toJSON));
+    final TemplateIndex previous = INDEXES.putIfAbsent(template, index);
+    return previous != null ? previous : index;
+  }
+
+  /**
+   * Indexes the given template from JSON that is already at hand, e.g. a snapshot the template was loaded from, instead of reading it back across the
+   * JSII bridge.
+   *
+   * @param template template the index belongs to
+   * @param templateJson the same template as a map
+   * @return the index of the given template
+   */
+  static TemplateIndex of(final Template template, final Map<String, Object> templateJson) {
+    requireNonNull(template, "'template' must not be null");
+
+    final TemplateIndex index = of(templateJson);
+    final TemplateIndex previous = INDEXES.putIfAbsent(template, index);
+    return previous != null ? previous : index;
+  }
+
+  /**
+   * @param templateJson CloudFormation template as a map, e.g. the result of {@link Template#toJSON()}
+   * @return a new index of the given template
+   */
+  public static TemplateIndex of(final Map<String, Object> templateJson) {
+    requireNonNull(templateJson, "'templateJson' must not be null");
+
+    final Map<String, Object> resources = (Map<String, Object>) templateJson.getOrDefault(RESOURCES, Map.of());
+
+    final Map<String, Map<String, Map<String, Object>>> resourcesByType = new LinkedHashMap<>();
+    resources.forEach((logicalId, resource) -> {
+      final Map<String, Object> immutableResource = (Map<String, Object>) immutableCopy(resource);
+      final String type = (String) immutableResource.get(TYPE);
+
+      resourcesByType.computeIfAbsent(type, k -> new LinkedHashMap<>())
+          .put(logicalId, immutableResource);
+    });
+
+    resourcesByType.replaceAll((type, resourcesOfType) -> Collections.unmodifiableMap(resourcesOfType));
+
+    return new TemplateIndex(Collections.unmodifiableMap(resourcesByType));
+  }
+
+  /**
+   * @param cdkResourceType type of the resources
+   * @return unmodifiable map of logical id to resource, in template order. Empty if the template has no resources of the given type.
+   */
+  public Map<String, Map<String, Object>> getResources(final CdkResourceType cdkResourceType) {
+    return resourcesByType.getOrDefault(cdkResourceType.getValue(), Map.of());
+  }
+
+  /**
+   * Finds the first resource of the given type whose logical id contains a match for the given pattern. This mirrors the semantics of
+   * {@link software.amazon.awscdk.assertions.Match#stringLikeRegexp(String)}.
+   *
+   * @param cdkResourceType type of the resource
+   * @param logicalIdPattern pattern the logical id is matched against
+   * @return the matching logical id and resource, if any
+   */
+  public Optional<Entry<String, Map<String, Object>>> findResource(final CdkResourceType cdkResourceType,
+      final Pattern logicalIdPattern) {
+
+    return getResources(cdkResourceType)
+        .entrySet()
+        .stream()
+        .filter(entry -> logicalIdPattern.matcher(entry.getKey()).find())
+        .findFirst();
+  }
+
+  private static Object immutableCopy(final Object value) {
+    if (value instanceof Map<?, ?> map) {
+      final Map<Object, Object> copy = new LinkedHashMap<>();
+      map.forEach((k, v) -> copy.put(k, immutableCopy(v)));
+      return Collections.unmodifiableMap(copy);
+    }
+
+    if (value instanceof List<?> list) {
+      final List<Object> copy = new ArrayList<>(list.size());
+      list.forEach(v -> copy.add(immutableCopy(v)));
+      return Collections.unmodifiableList(copy);
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Opt-in on-disk cache of synthesized CloudFormation templates, used by {@link SynthesizedTemplates}.
+ * <p>
+ * Each snapshot is stored as <code>&lt;Stack&gt;-&lt;hash&gt;.json</code> under <code>target/cdk-template-snapshots</code>. The hash covers the given
+ * inputs (stack, application and environment), the <code>CDK_*</code> and <code>AWS_*</code> environment variables, the system properties and every
+ * entry of the test runtime classpath: every file of a class directory, and the name and CRC of every entry of a jar. Anything else the stack reads
+ * while it is built, e.g. a file or another environment variable, is not covered, and stacks with assets are never snapshotted because the contents
+ * of an asset are only fingerprinted during synthesis.
+ * </p>
+ * <p>
+ * Snapshots are off by default. Set the system property <code>sandpipers.cdk.template-snapshots.enabled</code> to <code>true</code> to turn them on,
+ * and <code>sandpipers.cdk.template-snapshots.directory</code> to store them elsewhere.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TemplateSnapshots {
+
+  static final String ENABLED_PROPERTY = "sandpipers.cdk.template-snapshots.enabled";
+  static final String DIRECTORY_PROPERTY = "sandpipers.cdk.template-snapshots.directory";
+
+  private static final String DEFAULT_DIRECTORY = "target/cdk-template-snapshots";
+  private static final List<String> ENVIRONMENT_VARIABLE_PREFIXES = List.of("CDK_", "AWS_");
+  // set by the JVM launcher or surefire and different for every run, without any effect on the stack
+  private static final Set<String> VOLATILE_SYSTEM_PROPERTIES = Set.of("sun.java.command", "surefire.real.class.path");
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final TypeReference<Map<String, Object>> TEMPLATE_TYPE = new TypeReference<>() {
+  };
+
+  static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "false"));
+  }
+
+  static Path directory() {
+    return Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY));
+  }
+
+  /**
+   * @return the <code>CDK_*</code> and <code>AWS_*</code> environment variables and the system properties as sorted <code>key=value</code> pairs
+   */
+  static List<String> runtimeInputs() {
+    final Stream<String> environmentVariables = System.getenv().entrySet().stream()
+        .filter(variable -> ENVIRONMENT_VARIABLE_PREFIXES.stream().anyMatch(variable.getKey()::startsWith))
+        .map(variable -> "env:%s=%s".formatted(variable.getKey(), variable.getValue()));
+
+    final Stream<String> systemProperties = System.getProperties().stringPropertyNames().stream()
+        .filter(property -> !VOLATILE_SYSTEM_PROPERTIES.contains(property))
+        .map(property -> "property:%s=%s".formatted(property, System.getProperty(property)));
+
+    return Stream.concat(environmentVariables, systemProperties)
+        .sorted()
+        .toList();
+  }
+
+  /**
+   * @return the existing entries of <code>java.class.path</code>, i.e. the class directories and jars of the test runtime classpath
+   */
+  static List<Path> classpath() {
+    return Arrays.stream(System.getProperty("java.class.path", "").split(File.pathSeparator))
+        .filter(entry -> !entry.isBlank())
+        .map(Path::of)
+        .filter(Files::exists)
+        .toList();
+  }
+
+  /**
+   * @param inputs values the template depends on, e.g. the stack class and environment
+   * @param codeSources class directories or jars the template depends on
+   * @return hex-encoded SHA-256 of the inputs and code sources
+   */
+  static String hash(final List<String> inputs, final List<Path> codeSources) {
+    final MessageDigest digest = sha256();
+
+    inputs.forEach(input -> update(digest, input));
+
+    codeSources.stream()
+        .map(Path::toAbsolutePath)
+        .distinct()
+        .sorted()
+        .forEach(codeSource -> hashCodeSource(digest, codeSource));
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * @return the template stored under the given name and hash. Empty if there is none or it can't be read.
+   */
+  static Optional<Map<String, Object>> load(final Path directory, final String name, final String hash) {
+    final Path snapshot = snapshotPath(directory, name, hash);
+    if (!Files.isRegularFile(snapshot)) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(OBJECT_MAPPER.readValue(snapshot.toFile(), TEMPLATE_TYPE));
+    } catch (final IOException e) {
+      // a corrupt snapshot is a cache miss, it is overwritten after the next synthesis
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores the template under the given name and hash. The snapshot is written to a temporary file and moved in place, so that concurrent readers,
+   * e.g. other surefire forks, never see a partial file.
+   */
+  static void store(final Path directory, final String name, final String hash, final Map<String, Object> templateJson) {
+    final Path snapshot = snapshotPath(directory, name, hash);
+
+    try {
+      Files.createDirectories(directory);
+      final Path temporary = Files.createTempFile(directory, name, ".tmp");
+      try {
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), templateJson);
+        Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (final IOException e) {
+      // snapshots are an optimisation only, the template has already been synthesized
+    }
+  }
+
+  private static Path snapshotPath(final Path directory, final String name, final String hash) {
+    return directory.resolve("%s-%s.json".formatted(name, hash));
+  }
+
+  private static void hashCodeSource(final MessageDigest digest, final Path codeSource) {
+    update(digest, codeSource.toString());
+
+    try {
+      if (Files.isDirectory(codeSource)) {
+        try (Stream<Path> files = Files.walk(codeSource)) {
+          for (final Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+            update(digest, codeSource.relativize(file).toString());
+            digest.update(Files.readAllBytes(file));
+          }
+        }
+      } else {
+        // CRCs come from the jar's central directory, so nothing is inflated and a rebuilt but unchanged jar hashes the same
+        try (ZipFile jar = new ZipFile(codeSource.toFile())) {
+          jar.stream()
+              .sorted(Comparator.comparing(ZipEntry::getName))
+              .forEach(entry -> {
+                update(digest, entry.getName());
+                update(digest, Long.toHexString(entry.getCrc()));
+              });
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not hash <%s>".formatted(codeSource), e);
+    }
+  }
+
+  private static void update(final MessageDigest digest, final String value) {
+    digest.update(Objects.toString(value).getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -43,7 +43,7 @@ public class TopicAssert extends AbstractCDKResourcesAssert<TopicAssert, Map<Str
     final String topicName = (String) properties.get("TopicName");
 
     Assertions.assertThat(topicName)
-        .containsPattern(expected);
+        .containsPattern(Patterns.compile(expected));
 
     return this;
   }
@@ -92,8 +92,24 @@ public class TopicAssert extends AbstractCDKResourcesAssert<TopicAssert, Map<Str
         .isInstanceOf(List.class)
         .anySatisfy(s -> Assertions.assertThat(s)
             .isInstanceOf(String.class)
-            .containsPattern(expected));
+            .containsPattern(Patterns.compile(expected)));
 
     return this;
   }
+
+  /**
+   * Verifies that the topic is a FIFO topic in high throughput mode, i.e. <code>FifoThroughputScope</code> is <code>MessageGroup</code>.
+   *
+   * @return this
+   */
+  public TopicAssert isHighThroughputFifo() {
+
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final String fifoThroughputScope = (String) properties.get("FifoThroughputScope");
+
+    Assertions.assertThat(fifoThroughputScope)
+        .isEqualTo("MessageGroup");
+
+    return isFifo(true);
+  }
 }
@@ -20,6 +20,7 @@ package io.sandpipers.cdk.assertion;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 
 /**
  * Fluent assertions for <code>AWS::SNS::Subscription</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start with
@@ -43,7 +44,7 @@ public class TopicSubscriptionAssert extends
     final Map<String, Object> actualTopicArn = (Map<String, Object>) properties.get("TopicArn");
 
     Assertions.assertThat(actualTopicArn.get("Ref").toString())
-        .matches(expected);
+        .matches(Patterns.compile(expected));
 
     return this;
   }
@@ -54,7 +55,7 @@ public class TopicSubscriptionAssert extends
     final String actual = (String) properties.get("Protocol");
 
     Assertions.assertThat(actual)
-        .matches(expected);
+        .matches(Patterns.compile(expected));
 
     return this;
   }
@@ -65,7 +66,7 @@ public class TopicSubscriptionAssert extends
     final String actual = (String) properties.get("Endpoint");
 
     Assertions.assertThat(actual)
-        .matches(expected);
+        .matches(Patterns.compile(expected));
 
     return this;
   }
@@ -80,7 +81,80 @@ public class TopicSubscriptionAssert extends
         .isInstanceOf(List.class)
         .anySatisfy(s -> Assertions.assertThat(s)
             .isInstanceOf(String.class)
-            .containsPattern(expected));
+            .containsPattern(Patterns.compile(expected)));
+
+    return this;
+  }
+
+  public TopicSubscriptionAssert hasRawMessageDelivery() {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((Boolean) properties.get("RawMessageDelivery"))
+        .isTrue();
+
+    return this;
+  }
+
+  /**
+   * @param expected pattern of the logical id of the subscribed queue
+   * @return this
+   */
+  public TopicSubscriptionAssert hasQueueEndpoint(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+    final Map<String, Object> endpoint = (Map<String, Object>) properties.get("Endpoint");
+    final List<String> endpointGetAtt = (List<String>) endpoint.get("Fn::GetAtt");
+
+    Assertions.assertThat(endpointGetAtt)
+        .isNotEmpty()
+        .first()
+        .matches(queue -> Patterns.matches(queue, expected));
+
+    return this;
+  }
+
+  public TopicSubscriptionAssert hasFilterPolicy(final Map<String, Object> expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((Map<String, Object>) properties.get("FilterPolicy"))
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected <code>MessageAttributes</code> or <code>MessageBody</code>
+   * @return this
+   */
+  public TopicSubscriptionAssert hasFilterPolicyScope(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat((String) properties.get("FilterPolicyScope"))
+        .isEqualTo(expected);
+
+    return this;
+  }
+
+  /**
+   * @param attribute name of the filtered attribute, nested attributes of a message body policy are separated by dots, e.g. <code>order.total</code>
+   * @param expected the conditions generated for the attribute, e.g. <code>List.of(Map.of("numeric", List.of(">=", 1000)))</code>
+   * @return this
+   */
+  public TopicSubscriptionAssert hasFilterPolicyAttribute(final String attribute, final List<Object> expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Object conditions = properties.get("FilterPolicy");
+    for (final String name : attribute.split("\\.")) {
+      Assertions.assertThat(conditions)
+          .as("filter policy of '%s'", attribute)
+          .asInstanceOf(InstanceOfAssertFactories.map(String.class, Object.class))
+          .containsKey(name);
+
+      conditions = ((Map<String, Object>) conditions).get(name);
+    }
+
+    Assertions.assertThat(conditions)
+        .as("filter policy of '%s'", attribute)
+        .isEqualTo(expected);
 
     return this;
   }
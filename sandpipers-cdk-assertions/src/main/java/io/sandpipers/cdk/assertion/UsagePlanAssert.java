@@ -0,0 +1,107 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::ApiGateway::UsagePlan</code>. This should be used if the resource map is extracted from the AWS template. Otherwise, start
+ * with {@link CDKStackAssert#containsUsagePlan(String)}.
+ */
+
+@SuppressWarnings("unchecked")
+public class UsagePlanAssert extends AbstractCDKResourcesAssert<UsagePlanAssert, Map<String, Object>> {
+
+  private UsagePlanAssert(final Map<String, Object> actual) {
+    super(actual, UsagePlanAssert.class);
+  }
+
+  public static UsagePlanAssert assertThat(final Map<String, Object> actual) {
+    return new UsagePlanAssert(actual);
+  }
+
+  public UsagePlanAssert hasUsagePlanName(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("UsagePlanName", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param burstLimit expected burst limit
+   * @param rateLimit expected rate limit in requests per second
+   * @return this
+   */
+  public UsagePlanAssert hasThrottle(final Integer burstLimit, final Double rateLimit) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Throttle", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("BurstLimit", burstLimit)
+        .extractingByKey("RateLimit", InstanceOfAssertFactories.type(Number.class))
+        .matches(rate -> rate.doubleValue() == rateLimit, "rate limit of " + rateLimit);
+
+    return this;
+  }
+
+  /**
+   * @param limit expected maximum number of requests per <code>period</code>
+   * @param period expected period, i.e. <code>DAY</code>, <code>WEEK</code> or <code>MONTH</code>
+   * @return this
+   */
+  public UsagePlanAssert hasQuota(final Integer limit, final String period) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("Quota", InstanceOfAssertFactories.map(String.class, Object.class))
+        .containsEntry("Limit", limit)
+        .containsEntry("Period", period);
+
+    return this;
+  }
+
+  /**
+   * @param restApiId regex of the logical id of the <code>AWS::ApiGateway::RestApi</code>
+   * @param stage regex of the logical id of the <code>AWS::ApiGateway::Stage</code>
+   * @return this
+   */
+  public UsagePlanAssert hasApiStage(final String restApiId, final String stage) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("ApiStages", InstanceOfAssertFactories.list(Map.class))
+        .anySatisfy(apiStage -> {
+          Assertions.assertThat((Map<String, Object>) apiStage)
+              .extractingByKey("ApiId", InstanceOfAssertFactories.map(String.class, Object.class))
+              .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+              .matches(e -> Patterns.matches(e, restApiId));
+
+          Assertions.assertThat((Map<String, Object>) apiStage)
+              .extractingByKey("Stage", InstanceOfAssertFactories.map(String.class, Object.class))
+              .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+              .matches(e -> Patterns.matches(e, stage));
+        });
+
+    return this;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+/**
+ * Fluent assertions for <code>AWS::ApiGateway::UsagePlanKey</code>. This should be used if the resource map is extracted from the AWS template. Otherwise,
+ * start with {@link CDKStackAssert#containsUsagePlanKey(String)}.
+ */
+
+@SuppressWarnings("unchecked")
+public class UsagePlanKeyAssert extends AbstractCDKResourcesAssert<UsagePlanKeyAssert, Map<String, Object>> {
+
+  private UsagePlanKeyAssert(final Map<String, Object> actual) {
+    super(actual, UsagePlanKeyAssert.class);
+  }
+
+  public static UsagePlanKeyAssert assertThat(final Map<String, Object> actual) {
+    return new UsagePlanKeyAssert(actual);
+  }
+
+  public UsagePlanKeyAssert hasKeyType(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .containsEntry("KeyType", expected);
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::ApiGateway::ApiKey</code>
+   * @return this
+   */
+  public UsagePlanKeyAssert hasKeyId(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("KeyId", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+
+  /**
+   * @param expected regex of the logical id of the <code>AWS::ApiGateway::UsagePlan</code>
+   * @return this
+   */
+  public UsagePlanKeyAssert hasUsagePlanId(final String expected) {
+    final Map<String, Object> properties = (Map<String, Object>) actual.get("Properties");
+
+    Assertions.assertThat(properties)
+        .extractingByKey("UsagePlanId", InstanceOfAssertFactories.map(String.class, Object.class))
+        .extractingByKey("Ref", InstanceOfAssertFactories.STRING)
+        .matches(e -> Patterns.matches(e, expected));
+
+    return this;
+  }
+}
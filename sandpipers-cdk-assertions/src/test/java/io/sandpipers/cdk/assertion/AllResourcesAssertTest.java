@@ -0,0 +1,86 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AllResourcesAssertTest {
+
+  private Map<String, Map<String, Object>> queues;
+
+  @BeforeEach
+  void setUp() {
+    queues = new LinkedHashMap<>();
+    queues.put("OrdersQueue1A2B3C4D", Map.of("Type", "AWS::SQS::Queue", "Properties", Map.of("SqsManagedSseEnabled", true)));
+    queues.put("OrdersDeadLetterQueue5E6F7A8B", Map.of("Type", "AWS::SQS::Queue", "Properties", Map.of()));
+    queues.put("PaymentsQueue9C0D1E2F", Map.of("Type", "AWS::SQS::Queue"));
+  }
+
+  @Test
+  void should_report_expected_and_actual_size() {
+    assertThatThrownBy(() -> AllResourcesAssert.assertThat(CdkResourceType.QUEUE, queues).hasSize(2))
+        .isInstanceOf(AssertionError.class)
+        .hasMessage("Expected template to contain <2> resource(s) of type <AWS::SQS::Queue> but found <3>: "
+            + "[OrdersQueue1A2B3C4D, OrdersDeadLetterQueue5E6F7A8B, PaymentsQueue9C0D1E2F]");
+  }
+
+  @Test
+  void should_filter_on_logical_id_in_template_order() {
+    final AllResourcesAssert ordersQueues = AllResourcesAssert.assertThat(CdkResourceType.QUEUE, queues)
+        .filteredOnLogicalId("^Orders");
+
+    ordersQueues.hasSize(2);
+    assertThat(ordersQueues.stream().map(Map.Entry::getKey))
+        .containsExactly("OrdersQueue1A2B3C4D", "OrdersDeadLetterQueue5E6F7A8B");
+  }
+
+  @Test
+  void should_report_every_resource_not_matching() {
+    assertThatThrownBy(() -> AllResourcesAssert.assertThat(CdkResourceType.QUEUE, queues).allHaveProperty("SqsManagedSseEnabled"))
+        .isInstanceOf(AssertionError.class)
+        .hasMessage("Expected every <AWS::SQS::Queue> to have property <SqsManagedSseEnabled>, but 2 of 3 did not: "
+            + "[OrdersDeadLetterQueue5E6F7A8B, PaymentsQueue9C0D1E2F]");
+  }
+
+  @Test
+  void should_report_every_resource_not_satisfying_requirements() {
+    assertThatThrownBy(() -> AllResourcesAssert.assertThat(CdkResourceType.QUEUE, queues)
+        .allSatisfy(queue -> assertThat(queue).containsKey("Properties")))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageStartingWith("Expected every <AWS::SQS::Queue> to satisfy the requirements, but 1 of 3 did not:%n"
+            .formatted() + "<PaymentsQueue9C0D1E2F>: ");
+  }
+
+  @Test
+  void should_report_assertion_error_without_message() {
+    assertThatThrownBy(() -> AllResourcesAssert.assertThat(CdkResourceType.QUEUE, queues)
+        .filteredOnLogicalId("^Payments")
+        .allSatisfy(queue -> {
+          throw new AssertionError();
+        }))
+        .isInstanceOf(AssertionError.class)
+        .hasMessage("Expected every <AWS::SQS::Queue> to satisfy the requirements, but 1 of 1 did not:%n"
+            .formatted() + "<PaymentsQueue9C0D1E2F>: java.lang.AssertionError");
+  }
+}
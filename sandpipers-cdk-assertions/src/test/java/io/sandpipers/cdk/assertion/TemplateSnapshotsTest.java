@@ -0,0 +1,135 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.assertion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TemplateSnapshotsTest {
+
+  private static final Map<String, Object> TEMPLATE = Map.of("Resources", Map.of("Queue", Map.of("Type", "AWS::SQS::Queue")));
+
+  @TempDir
+  private Path tempDir;
+
+  private Path classes;
+  private Path snapshots;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    classes = Files.createDirectories(tempDir.resolve("classes"));
+    Files.writeString(classes.resolve("QueueStack.class"), "queue stack");
+    snapshots = tempDir.resolve("snapshots");
+  }
+
+  @Test
+  void should_hash_same_inputs_and_code_the_same() {
+    final String hash = TemplateSnapshots.hash(List.of("QueueStack", "TEST"), List.of(classes));
+
+    assertThat(TemplateSnapshots.hash(List.of("QueueStack", "TEST"), List.of(classes)))
+        .isEqualTo(hash)
+        .hasSize(64);
+  }
+
+  @Test
+  void should_change_hash_when_input_changes() {
+    final String hash = TemplateSnapshots.hash(List.of("QueueStack", "TEST"), List.of(classes));
+
+    assertThat(TemplateSnapshots.hash(List.of("QueueStack", "PROD"), List.of(classes)))
+        .isNotEqualTo(hash);
+  }
+
+  @Test
+  void should_change_hash_when_class_directory_changes() throws IOException {
+    final String hash = TemplateSnapshots.hash(List.of("QueueStack"), List.of(classes));
+
+    Files.writeString(classes.resolve("QueueStack.class"), "changed queue stack");
+
+    assertThat(TemplateSnapshots.hash(List.of("QueueStack"), List.of(classes)))
+        .isNotEqualTo(hash);
+  }
+
+  @Test
+  void should_change_hash_when_jar_entry_changes() throws IOException {
+    final Path jar = tempDir.resolve("constructs.jar");
+
+    writeJar(jar, "queue");
+    final String hash = TemplateSnapshots.hash(List.of("QueueStack"), List.of(jar));
+
+    writeJar(jar, "changed queue");
+
+    assertThat(TemplateSnapshots.hash(List.of("QueueStack"), List.of(jar)))
+        .isNotEqualTo(hash);
+  }
+
+  @Test
+  void should_load_stored_snapshot() {
+    TemplateSnapshots.store(snapshots, "QueueStack", "abc", TEMPLATE);
+
+    assertThat(TemplateSnapshots.load(snapshots, "QueueStack", "abc"))
+        .contains(TEMPLATE);
+    assertThat(TemplateSnapshots.load(snapshots, "QueueStack", "def"))
+        .isEmpty();
+  }
+
+  @Test
+  void should_treat_corrupt_snapshot_as_missing() throws IOException {
+    Files.createDirectories(snapshots);
+    Files.writeString(snapshots.resolve("QueueStack-abc.json"), "{\"Resources\": {");
+
+    assertThat(TemplateSnapshots.load(snapshots, "QueueStack", "abc"))
+        .isEmpty();
+  }
+
+  @Test
+  void should_replace_snapshot_without_leaving_temporary_files() throws IOException {
+    final Map<String, Object> changedTemplate = Map.of("Resources", Map.of());
+
+    TemplateSnapshots.store(snapshots, "QueueStack", "abc", TEMPLATE);
+    TemplateSnapshots.store(snapshots, "QueueStack", "abc", changedTemplate);
+
+    assertThat(TemplateSnapshots.load(snapshots, "QueueStack", "abc"))
+        .contains(changedTemplate);
+
+    try (Stream<Path> files = Files.list(snapshots)) {
+      assertThat(files.map(Path::getFileName).map(Path::toString))
+          .containsExactly("QueueStack-abc.json");
+    }
+  }
+
+  private static void writeJar(final Path jar, final String content) throws IOException {
+    try (OutputStream outputStream = Files.newOutputStream(jar);
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+      zipOutputStream.putNextEntry(new ZipEntry("io/sandpipers/Queue.class"));
+      zipOutputStream.write(content.getBytes());
+      zipOutputStream.closeEntry();
+    }
+  }
+}
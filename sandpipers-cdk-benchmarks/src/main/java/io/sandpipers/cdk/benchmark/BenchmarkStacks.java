@@ -0,0 +1,80 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.benchmark;
+
+import io.sadpipers.cdk.type.SafeString;
+import io.sandpipers.cdk.core.construct.sqs.Queue;
+import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
+import java.util.Map;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+
+/**
+ * Stacks shared by the benchmarks. They are plain CDK stacks rather than {@link io.sandpipers.cdk.core.construct.BaseStack}s, so that no environment
+ * or cost centre has to be registered before a benchmark runs.
+ */
+final class BenchmarkStacks {
+
+  static final String STACK_ID = "BenchmarkStack";
+
+  /**
+   * CloudFormation allows 500 resources per stack and the CDK enforces it at synthesis. A limit of 0 turns the check off, so that the 1000-resource
+   * benchmarks can synthesize.
+   */
+  private static final Map<String, Object> CONTEXT = Map.of("@aws-cdk/core:stackResourceLimit", 0);
+
+  /**
+   * Queues without a dead-letter queue or SSL-enforcing queue policy, so that each one adds exactly one resource to the template.
+   */
+  static final QueueProps SINGLE_RESOURCE_QUEUE_PROPS = QueueProps.builder()
+      .requireDeadLetterQueue(false)
+      .enforceSSL(false)
+      .build();
+
+  private BenchmarkStacks() {
+  }
+
+  static Stack emptyStack() {
+    return new Stack(App.Builder.create().context(CONTEXT).build(), STACK_ID);
+  }
+
+  /**
+   * @param resourceCount number of resources in the stack
+   * @return a stack of <code>resourceCount</code> queues with the construct ids <code>Queue0</code> to <code>Queue&lt;resourceCount - 1&gt;</code>
+   */
+  static Stack stackWithResources(final int resourceCount) {
+    final Stack stack = emptyStack();
+
+    for (int i = 0; i < resourceCount; i++) {
+      new Queue<>(stack, queueId(i), SINGLE_RESOURCE_QUEUE_PROPS);
+    }
+
+    return stack;
+  }
+
+  static SafeString queueId(final int index) {
+    return SafeString.of("Queue" + index);
+  }
+
+  /**
+   * @return pattern matching the logical id of the queue created by {@link #stackWithResources(int)} for the given index
+   */
+  static String queueLogicalIdPattern(final int index) {
+    return "^Queue%d[A-Z0-9]{8}$".formatted(index);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.benchmark;
+
+import io.sandpipers.cdk.assertion.CDKStackAssert;
+import io.sandpipers.cdk.assertion.QueueAssert;
+import io.sandpipers.cdk.assertion.TemplateIndex;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awscdk.assertions.Template;
+
+/**
+ * Throughput of {@link CDKStackAssert} lookups on templates of 10, 100 and 1000 resources. The template is synthesized once per trial; the lookup
+ * targets the last resource in the template, which is the worst case for a scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CDKStackAssertBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int resourceCount;
+
+  private Template template;
+  private Map<String, Object> templateJson;
+  private String lastQueueLogicalId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    template = Template.fromStack(BenchmarkStacks.stackWithResources(resourceCount));
+    templateJson = template.toJSON();
+    lastQueueLogicalId = BenchmarkStacks.queueLogicalIdPattern(resourceCount - 1);
+  }
+
+  @Benchmark
+  public QueueAssert containsQueue() {
+    return CDKStackAssert.assertThat(template)
+        .containsQueue(lastQueueLogicalId);
+  }
+
+  @Benchmark
+  public TemplateIndex indexTemplate() {
+    return TemplateIndex.of(templateJson);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.benchmark;
+
+import io.sadpipers.cdk.type.AWSEcrImageIdentifier;
+import io.sadpipers.cdk.type.KebabCaseString;
+import io.sadpipers.cdk.type.Path;
+import io.sadpipers.cdk.type.SafeString;
+import io.sandpipers.cdk.core.construct.apigateway.RestApi;
+import io.sandpipers.cdk.core.construct.apigateway.RestApi.RestApiProps;
+import io.sandpipers.cdk.core.construct.apprunner.PrivateIngressPublicEgressAppRunnerService;
+import io.sandpipers.cdk.core.construct.apprunner.PrivateIngressPublicEgressAppRunnerService.PrivateIngressPublicEgressAppRunnerServiceProps;
+import io.sandpipers.cdk.core.construct.apprunner.PublicIngressPublicEgressAppRunnerService;
+import io.sandpipers.cdk.core.construct.apprunner.PublicIngressPublicEgressAppRunnerService.PublicIngressPublicEgressAppRunnerServiceProps;
+import io.sandpipers.cdk.core.construct.dynamodb.TableV2;
+import io.sandpipers.cdk.core.construct.dynamodb.TableV2.TableProps;
+import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function;
+import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function.CustomRuntime2023FunctionProps;
+import io.sandpipers.cdk.core.construct.sns.FifoTopic;
+import io.sandpipers.cdk.core.construct.sns.FifoTopic.FifoTopicProps;
+import io.sandpipers.cdk.core.construct.sqs.Queue;
+import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.dynamodb.Attribute;
+import software.amazon.awscdk.services.dynamodb.AttributeType;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.s3.Bucket;
+
+/**
+ * Cost of instantiating each core construct, i.e. of building its part of the construct tree across the JSII bridge. Synthesis is not included, see
+ * {@link SynthesisBenchmark}.
+ * <p>
+ * Every invocation adds one construct to a fresh empty stack, so the cost does not grow with the number of constructs added by earlier invocations.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConstructBenchmark {
+
+  private static final QueueProps QUEUE_PROPS = QueueProps.builder().build();
+
+  private static final FifoTopicProps FIFO_TOPIC_PROPS = FifoTopicProps.builder().build();
+
+  private static final TableProps TABLE_PROPS = TableProps.builder()
+      .tableName(KebabCaseString.of("benchmark-table"))
+      .partitionKey(Attribute.builder().name("id").type(AttributeType.STRING).build())
+      .build();
+
+  private static final RestApiProps REST_API_PROPS = RestApiProps.builder().build();
+
+  private static final AWSEcrImageIdentifier IMAGE_IDENTIFIER =
+      AWSEcrImageIdentifier.of("123456789012.dkr.ecr.ap-southeast-2.amazonaws.com/benchmark:latest");
+
+  private static final PublicIngressPublicEgressAppRunnerServiceProps PUBLIC_INGRESS_APP_RUNNER_PROPS =
+      PublicIngressPublicEgressAppRunnerServiceProps.builder()
+          .awsEcrImageIdentifier(IMAGE_IDENTIFIER)
+          .imageRepositoryType(SafeString.of("ECR"))
+          .healthCheckPath(Path.of("/health"))
+          .egressType(SafeString.of("DEFAULT"))
+          .publiclyAccessible(true)
+          .build();
+
+  private static final PrivateIngressPublicEgressAppRunnerServiceProps PRIVATE_INGRESS_APP_RUNNER_PROPS =
+      PrivateIngressPublicEgressAppRunnerServiceProps.builder()
+          .awsEcrImageIdentifier(IMAGE_IDENTIFIER)
+          .imageRepositoryType(SafeString.of("ECR"))
+          .healthCheckPath(Path.of("/health"))
+          .egressType(SafeString.of("DEFAULT"))
+          .publiclyAccessible(false)
+          .build();
+
+  private Stack stack;
+  private CustomRuntime2023FunctionProps functionProps;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    stack = BenchmarkStacks.emptyStack();
+
+    functionProps = CustomRuntime2023FunctionProps.builder()
+        .description("Benchmark Function")
+        .handler("bootstrap")
+        .code(Code.fromBucket(Bucket.fromBucketName(stack, "CodeBucket", "benchmark-code-bucket"), "function.zip"))
+        .build();
+  }
+
+  @Benchmark
+  public CustomRuntime2023Function<CustomRuntime2023FunctionProps> customRuntime2023Function() {
+    return new CustomRuntime2023Function<>(stack, SafeString.of("Function"), functionProps);
+  }
+
+  @Benchmark
+  public Queue<QueueProps> queue() {
+    return new Queue<>(stack, SafeString.of("Queue"), QUEUE_PROPS);
+  }
+
+  @Benchmark
+  public FifoTopic<FifoTopicProps> fifoTopic() {
+    return new FifoTopic<>(stack, SafeString.of("Topic"), FIFO_TOPIC_PROPS);
+  }
+
+  @Benchmark
+  public TableV2 tableV2() {
+    return new TableV2(stack, SafeString.of("Table"), TABLE_PROPS);
+  }
+
+  @Benchmark
+  public RestApi restApi() {
+    return new RestApi(stack, SafeString.of("RestApi"), REST_API_PROPS);
+  }
+
+  @Benchmark
+  public PublicIngressPublicEgressAppRunnerService<PublicIngressPublicEgressAppRunnerServiceProps> publicIngressPublicEgressAppRunnerService() {
+    return new PublicIngressPublicEgressAppRunnerService<>(stack, SafeString.of("Service"), PUBLIC_INGRESS_APP_RUNNER_PROPS);
+  }
+
+  @Benchmark
+  public PrivateIngressPublicEgressAppRunnerService<PrivateIngressPublicEgressAppRunnerServiceProps> privateIngressPublicEgressAppRunnerService() {
+    return new PrivateIngressPublicEgressAppRunnerService<>(stack, SafeString.of("Service"), PRIVATE_INGRESS_APP_RUNNER_PROPS);
+  }
+}
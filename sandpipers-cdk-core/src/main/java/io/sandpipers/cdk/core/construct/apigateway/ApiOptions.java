@@ -0,0 +1,120 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.apigateway.MethodDeploymentOptions;
+import software.amazon.awscdk.services.apigateway.MethodOptions;
+import software.amazon.awscdk.services.apigateway.StageOptions;
+
+/**
+ * Helpers shared by the profiles of {@link RestApi.RestApiProps}, which rebuild the immutable CDK options they are applied to.
+ */
+final class ApiOptions {
+
+  private static final Pattern METHOD_PATH = Pattern.compile("^/.*/(\\*|GET|HEAD|POST|PUT|PATCH|DELETE|OPTIONS|ANY)$");
+
+  private ApiOptions() {
+  }
+
+  /**
+   * @return a builder holding every option of <code>deployOptions</code>
+   */
+  static StageOptions.Builder builderFrom(@Nullable final StageOptions deployOptions) {
+    final StageOptions base = deployOptions == null ? StageOptions.builder().build() : deployOptions;
+
+    return StageOptions.builder()
+        .accessLogDestination(base.getAccessLogDestination())
+        .accessLogFormat(base.getAccessLogFormat())
+        .cacheClusterEnabled(base.getCacheClusterEnabled())
+        .cacheClusterSize(base.getCacheClusterSize())
+        .clientCertificateId(base.getClientCertificateId())
+        .description(base.getDescription())
+        .documentationVersion(base.getDocumentationVersion())
+        .methodOptions(base.getMethodOptions())
+        .stageName(base.getStageName())
+        .tracingEnabled(base.getTracingEnabled())
+        .variables(base.getVariables())
+        .cacheDataEncrypted(base.getCacheDataEncrypted())
+        .cacheTtl(base.getCacheTtl())
+        .cachingEnabled(base.getCachingEnabled())
+        .dataTraceEnabled(base.getDataTraceEnabled())
+        .loggingLevel(base.getLoggingLevel())
+        .metricsEnabled(base.getMetricsEnabled())
+        .throttlingBurstLimit(base.getThrottlingBurstLimit())
+        .throttlingRateLimit(base.getThrottlingRateLimit());
+  }
+
+  /**
+   * @return a mutable copy of the method options of <code>deployOptions</code>
+   */
+  static Map<String, MethodDeploymentOptions> methodOptionsOf(@Nullable final StageOptions deployOptions) {
+    final Map<String, MethodDeploymentOptions> methodOptions = new LinkedHashMap<>();
+
+    if (deployOptions != null && deployOptions.getMethodOptions() != null) {
+      methodOptions.putAll(deployOptions.getMethodOptions());
+    }
+
+    return methodOptions;
+  }
+
+  /**
+   * @return a builder holding every option of <code>methodOptions</code>
+   */
+  static MethodDeploymentOptions.Builder builderFrom(@Nullable final MethodDeploymentOptions methodOptions) {
+    final MethodDeploymentOptions base = methodOptions == null ? MethodDeploymentOptions.builder().build() : methodOptions;
+
+    return MethodDeploymentOptions.builder()
+        .cacheDataEncrypted(base.getCacheDataEncrypted())
+        .cacheTtl(base.getCacheTtl())
+        .cachingEnabled(base.getCachingEnabled())
+        .dataTraceEnabled(base.getDataTraceEnabled())
+        .loggingLevel(base.getLoggingLevel())
+        .metricsEnabled(base.getMetricsEnabled())
+        .throttlingBurstLimit(base.getThrottlingBurstLimit())
+        .throttlingRateLimit(base.getThrottlingRateLimit());
+  }
+
+  /**
+   * @return a builder holding every option of <code>defaultMethodOptions</code>
+   */
+  static MethodOptions.Builder builderFrom(@Nullable final MethodOptions defaultMethodOptions) {
+    final MethodOptions base = defaultMethodOptions == null ? MethodOptions.builder().build() : defaultMethodOptions;
+
+    return MethodOptions.builder()
+        .apiKeyRequired(base.getApiKeyRequired())
+        .authorizationScopes(base.getAuthorizationScopes())
+        .authorizationType(base.getAuthorizationType())
+        .authorizer(base.getAuthorizer())
+        .methodResponses(base.getMethodResponses())
+        .operationName(base.getOperationName())
+        .requestModels(base.getRequestModels())
+        .requestParameters(base.getRequestParameters())
+        .requestValidator(base.getRequestValidator())
+        .requestValidatorOptions(base.getRequestValidatorOptions());
+  }
+
+  static void validateMethodPath(final String methodPath) {
+    if (!METHOD_PATH.matcher(methodPath).matches()) {
+      throw new IllegalArgumentException("method path '%s' must be a resource path followed by an HTTP method, e.g. '/users/{id}/GET'".formatted(methodPath));
+    }
+  }
+}
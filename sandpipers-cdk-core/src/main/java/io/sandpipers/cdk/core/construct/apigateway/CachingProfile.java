@@ -0,0 +1,207 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.Aspects;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.IAspect;
+import software.amazon.awscdk.services.apigateway.CfnMethod;
+import software.amazon.awscdk.services.apigateway.MethodDeploymentOptions;
+import software.amazon.awscdk.services.apigateway.MethodOptions;
+import software.amazon.awscdk.services.apigateway.StageOptions;
+import software.constructs.IConstruct;
+
+/**
+ * Stage cache of a {@link RestApi} or {@link LambdaRestApi}. Provisions a cache cluster on the deployment stage, caches every method for
+ * <code>defaultTtl</code> unless overridden per method, and keys cache entries on <code>cacheKeyParameters</code> in addition to the resource path.
+ * <pre>{@code
+ * CachingProfile.builder()
+ *     .clusterSize("0.5")
+ *     .defaultTtl(Duration.minutes(5))
+ *     .methodOverride("/users/{id}/GET", MethodCaching.builder().ttl(Duration.minutes(30)).build())
+ *     .methodOverride("/users/POST", MethodCaching.builder().enabled(false).build())
+ *     .cacheKeyParameter("method.request.querystring.page")
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@SuperBuilder
+public class CachingProfile {
+
+  public static final Set<String> CLUSTER_SIZES = Set.of("0.5", "1.6", "6.1", "13.5", "28.4", "58.2", "118", "237");
+
+  public static final Duration MAX_TTL = Duration.hours(1);
+
+  private static final Pattern CACHE_KEY_PARAMETER = Pattern.compile("^method\\.request\\.(querystring|header|path)\\.[^.\\s]+$");
+
+  /**
+   * Cache cluster size in GB, one of {@link #CLUSTER_SIZES}.
+   */
+  @Default
+  @NotNull
+  private final String clusterSize = "0.5";
+
+  @Default
+  @NotNull
+  private final Duration defaultTtl = Duration.minutes(5);
+
+  /**
+   * Caching of individual methods keyed by method path, i.e. resource path followed by the HTTP method, e.g. <code>/users/{id}/GET</code>.
+   */
+  @Singular
+  private final Map<String, MethodCaching> methodOverrides;
+
+  /**
+   * Request parameters added to the cache key, e.g. <code>method.request.querystring.page</code> or <code>method.request.header.Accept-Language</code>.
+   */
+  @Singular
+  private final List<String> cacheKeyParameters;
+
+  @Default
+  @NotNull
+  private final Boolean encrypted = true;
+
+  /**
+   * @param deployOptions the stage options to enable caching on, may be <code>null</code>
+   * @return a copy of <code>deployOptions</code> with the cache cluster and the method cache settings of this profile
+   */
+  public StageOptions toDeployOptions(@Nullable final StageOptions deployOptions) {
+    validate();
+
+    final Map<String, MethodDeploymentOptions> methodOptions = ApiOptions.methodOptionsOf(deployOptions);
+    methodOverrides.forEach((methodPath, methodCaching) -> methodOptions.put(methodPath, ApiOptions.builderFrom(methodOptions.get(methodPath))
+        .cachingEnabled(methodCaching.getEnabled())
+        .cacheTtl(methodCaching.getEnabled() ? ttlOf(methodCaching) : null)
+        .cacheDataEncrypted(methodCaching.getEnabled() ? encrypted : null)
+        .build()));
+
+    return ApiOptions.builderFrom(deployOptions)
+        .methodOptions(methodOptions)
+        .cacheClusterEnabled(true)
+        .cacheClusterSize(clusterSize)
+        .cachingEnabled(true)
+        .cacheTtl(defaultTtl)
+        .cacheDataEncrypted(encrypted)
+        .build();
+  }
+
+  /**
+   * @param defaultMethodOptions the default method options of the API, may be <code>null</code>
+   * @return a copy of <code>defaultMethodOptions</code> declaring the cache key parameters as optional request parameters
+   */
+  public MethodOptions toDefaultMethodOptions(@Nullable final MethodOptions defaultMethodOptions) {
+    if (cacheKeyParameters.isEmpty()) {
+      return defaultMethodOptions;
+    }
+
+    final Map<String, Boolean> requestParameters = new HashMap<>();
+    if (defaultMethodOptions != null && defaultMethodOptions.getRequestParameters() != null) {
+      requestParameters.putAll(defaultMethodOptions.getRequestParameters());
+    }
+    cacheKeyParameters.forEach(cacheKeyParameter -> requestParameters.putIfAbsent(cacheKeyParameter, false));
+
+    return ApiOptions.builderFrom(defaultMethodOptions)
+        .requestParameters(requestParameters)
+        .build();
+  }
+
+  /**
+   * Adds the cache key parameters to the integration of every method of <code>api</code> but <code>OPTIONS</code>, including methods added after this
+   * call.
+   */
+  public void addCacheKeyParameters(@NotNull final IConstruct api) {
+    if (!cacheKeyParameters.isEmpty()) {
+      Aspects.of(api).add(new CacheKeyParametersAspect(cacheKeyParameters));
+    }
+  }
+
+  private Duration ttlOf(final MethodCaching methodCaching) {
+    return methodCaching.getTtl() == null ? defaultTtl : methodCaching.getTtl();
+  }
+
+  private void validate() {
+    if (!CLUSTER_SIZES.contains(clusterSize)) {
+      throw new IllegalArgumentException("'clusterSize' must be one of %s but was '%s'".formatted(CLUSTER_SIZES, clusterSize));
+    }
+
+    validateTtl("'defaultTtl'", defaultTtl);
+
+    methodOverrides.forEach((methodPath, methodCaching) -> {
+      ApiOptions.validateMethodPath(methodPath);
+
+      if (methodCaching.getTtl() != null) {
+        validateTtl("ttl of '%s'".formatted(methodPath), methodCaching.getTtl());
+      }
+    });
+
+    cacheKeyParameters.forEach(cacheKeyParameter -> {
+      if (!CACHE_KEY_PARAMETER.matcher(cacheKeyParameter).matches()) {
+        throw new IllegalArgumentException("cache key parameter '%s' must be a method request querystring, header or path parameter, e.g. 'method.request.querystring.page'"
+            .formatted(cacheKeyParameter));
+      }
+    });
+  }
+
+  private static void validateTtl(final String name, final Duration ttl) {
+    if (ttl.toSeconds().intValue() > MAX_TTL.toSeconds().intValue()) {
+      throw new IllegalArgumentException("%s must be at most 3600 seconds but was %s".formatted(name, ttl.toSeconds()));
+    }
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class MethodCaching {
+
+    @Default
+    @NotNull
+    private final Boolean enabled = true;
+
+    /**
+     * Defaults to the <code>defaultTtl</code> of the profile.
+     */
+    @Nullable
+    private final Duration ttl;
+  }
+
+  private static final class CacheKeyParametersAspect implements IAspect {
+
+    private final List<String> cacheKeyParameters;
+
+    private CacheKeyParametersAspect(final List<String> cacheKeyParameters) {
+      this.cacheKeyParameters = cacheKeyParameters;
+    }
+
+    @Override
+    public void visit(@NotNull final IConstruct node) {
+      if (node instanceof CfnMethod method && !"OPTIONS".equals(method.getHttpMethod())) {
+        method.addPropertyOverride("Integration.CacheKeyParameters", cacheKeyParameters);
+      }
+    }
+  }
+}
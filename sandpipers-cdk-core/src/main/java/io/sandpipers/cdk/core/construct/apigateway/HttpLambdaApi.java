@@ -0,0 +1,127 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sadpipers.cdk.type.SafeString;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.aws_apigatewayv2_integrations.HttpLambdaIntegration;
+import software.amazon.awscdk.services.apigateway.DomainNameOptions;
+import software.amazon.awscdk.services.apigateway.EndpointType;
+import software.amazon.awscdk.services.apigatewayv2.CorsPreflightOptions;
+import software.amazon.awscdk.services.apigatewayv2.DomainMappingOptions;
+import software.amazon.awscdk.services.apigatewayv2.DomainName;
+import software.amazon.awscdk.services.apigatewayv2.HttpApi;
+import software.amazon.awscdk.services.apigatewayv2.MTLSConfig;
+import software.amazon.awscdk.services.apigatewayv2.PayloadFormatVersion;
+import software.amazon.awscdk.services.apigatewayv2.SecurityPolicy;
+import software.amazon.awscdk.services.lambda.IFunction;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct representing AWS::ApiGatewayV2::Api (HTTP API) proxying every request to a Lambda function with payload format 2.0. A lighter alternative to
+ * {@link LambdaRestApi} when none of the REST API features, e.g. caching or usage plans, are needed.
+ * <p> Example usage can be found in <a
+ * href="https://github.com/muhamadto/sandpipers-cdk/blob/main/sandpipers-cdk-examples/sandpipers-cdk-example-apigateway/src/main/java/io/sandpipers/cdk/example/apigateway/HttpLambdaApiStack.java">sandpipers-cdk-example-apigateway</a></p>
+ */
+@Getter
+public class HttpLambdaApi extends Construct implements BaseConstruct {
+
+  private HttpApi httpApi;
+
+  @Nullable
+  private DomainName domainName;
+
+  public HttpLambdaApi(
+      @NotNull final Construct scope,
+      @NotNull final SafeString id,
+      @NotNull final HttpLambdaApiProps props) {
+    super(scope, id.getValue());
+
+    final HttpLambdaIntegration integration = HttpLambdaIntegration.Builder.create("Integration", props.getHandler())
+        .payloadFormatVersion(PayloadFormatVersion.VERSION_2_0)
+        .build();
+
+    this.domainName = createDomainName(props.getDomainName());
+
+    this.httpApi = HttpApi.Builder.create(this, id.getValue())
+        .apiName(props.getApiName())
+        .description(props.getDescription())
+        .corsPreflight(props.getCorsPreflight())
+        .disableExecuteApiEndpoint(props.getDisableExecuteApiEndpoint())
+        .defaultIntegration(integration)
+        .defaultDomainMapping(domainName == null ? null : DomainMappingOptions.builder()
+            .domainName(domainName)
+            .mappingKey(props.getDomainName().getBasePath())
+            .build())
+        .build();
+  }
+
+  private DomainName createDomainName(@Nullable final DomainNameOptions domainNameOptions) {
+    if (domainNameOptions == null) {
+      return null;
+    }
+
+    if (domainNameOptions.getEndpointType() != null && domainNameOptions.getEndpointType() != EndpointType.REGIONAL) {
+      throw new IllegalArgumentException("HTTP API custom domains must be 'REGIONAL' but was '%s'".formatted(domainNameOptions.getEndpointType()));
+    }
+
+    final software.amazon.awscdk.services.apigateway.MTLSConfig mtls = domainNameOptions.getMtls();
+
+    return DomainName.Builder.create(this, "CustomDomain")
+        .domainName(domainNameOptions.getDomainName())
+        .certificate(domainNameOptions.getCertificate())
+        .securityPolicy(domainNameOptions.getSecurityPolicy() == null ? null : SecurityPolicy.valueOf(domainNameOptions.getSecurityPolicy().name()))
+        .mtls(mtls == null ? null : MTLSConfig.builder()
+            .bucket(mtls.getBucket())
+            .key(mtls.getKey())
+            .version(mtls.getVersion())
+            .build())
+        .build();
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class HttpLambdaApiProps {
+
+    @NotNull
+    private IFunction handler;
+
+    @Nullable
+    private String apiName;
+
+    @Nullable
+    private String description;
+
+    @Nullable
+    private CorsPreflightOptions corsPreflight;
+
+    @Nullable
+    private Boolean disableExecuteApiEndpoint;
+
+    /**
+     * Custom domain of the API, configured the same way as for {@link RestApi}. HTTP APIs only support <code>REGIONAL</code> endpoints and map
+     * <code>basePath</code> as the API mapping key.
+     */
+    @Nullable
+    private DomainNameOptions domainName;
+  }
+}
@@ -18,10 +18,14 @@
 package io.sandpipers.cdk.core.construct.apigateway;
 
 import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sandpipers.cdk.core.construct.apigateway.RestApi.RestApiProps;
 import io.sadpipers.cdk.type.SafeString;
 import lombok.Getter;
+import lombok.experimental.SuperBuilder;
 import org.jetbrains.annotations.NotNull;
-import software.amazon.awscdk.services.apigateway.LambdaRestApiProps;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.apigateway.LambdaIntegrationOptions;
+import software.amazon.awscdk.services.lambda.IFunction;
 import software.constructs.Construct;
 
 /**
@@ -49,10 +53,10 @@ public class LambdaRestApi extends Construct implements BaseConstruct {
         .policy(props.getPolicy())
         .defaultCorsPreflightOptions(props.getDefaultCorsPreflightOptions())
         .defaultIntegration(props.getDefaultIntegration())
-        .defaultMethodOptions(props.getDefaultMethodOptions())
+        .defaultMethodOptions(RestApi.toDefaultMethodOptions(props))
         .cloudWatchRole(props.getCloudWatchRole())
         .cloudWatchRoleRemovalPolicy(props.getCloudWatchRoleRemovalPolicy())
-        .deployOptions(props.getDeployOptions())
+        .deployOptions(RestApi.toDeployOptions(props))
         .description(props.getDescription())
         .disableExecuteApiEndpoint(props.getDisableExecuteApiEndpoint())
         .endpointExportName(props.getEndpointExportName())
@@ -61,10 +65,36 @@ public class LambdaRestApi extends Construct implements BaseConstruct {
         .parameters(props.getParameters())
         .retainDeployments(props.getRetainDeployments())
         .apiKeySourceType(props.getApiKeySourceType())
-        .binaryMediaTypes(props.getBinaryMediaTypes())
+        .binaryMediaTypes(RestApi.toBinaryMediaTypes(props))
         .cloneFrom(props.getCloneFrom())
         .endpointConfiguration(props.getEndpointConfiguration())
-        .minCompressionSize(props.getMinCompressionSize())
+        .minCompressionSize(RestApi.toMinCompressionSize(props))
         .build();
+
+    if (props.getCachingProfile() != null) {
+      props.getCachingProfile().addCacheKeyParameters(this);
+    }
+
+    if (props.getThrottlingProfile() != null) {
+      props.getThrottlingProfile().addUsagePlans(lambdaRestApi);
+    }
+  }
+
+  /**
+   * {@link RestApiProps} of a Lambda backed API, adding the profiles of {@link RestApiProps} to
+   * {@link software.amazon.awscdk.services.apigateway.LambdaRestApiProps}.
+   */
+  @Getter
+  @SuperBuilder
+  public static class LambdaRestApiProps extends RestApiProps implements software.amazon.awscdk.services.apigateway.LambdaRestApiProps {
+
+    @NotNull
+    private final IFunction handler;
+
+    @Nullable
+    private final LambdaIntegrationOptions integrationOptions;
+
+    @Nullable
+    private final Boolean proxy;
   }
 }
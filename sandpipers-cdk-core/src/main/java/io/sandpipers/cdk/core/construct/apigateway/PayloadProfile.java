@@ -0,0 +1,111 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.Size;
+
+/**
+ * Response payload optimisation of a {@link RestApi} or {@link LambdaRestApi}. Responses of at least <code>minCompressionSize</code> are compressed when the
+ * client sends <code>Accept-Encoding</code>, and pre-compressed gzip and brotli assets are passed through as binary rather than being base64 encoded.
+ * <pre>{@code
+ * PayloadProfile.builder()
+ *     .minCompressionSize(Size.kibibytes(1))
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@SuperBuilder
+public class PayloadProfile {
+
+  public static final long MAX_COMPRESSION_SIZE_BYTES = 10485760;
+
+  public static final List<String> PRE_COMPRESSED_MEDIA_TYPES = List.of("application/gzip", "application/x-gzip", "application/x-brotli");
+
+  private static final Pattern MEDIA_TYPE = Pattern.compile("^[\\w.+*-]+/[\\w.+*-]+$");
+
+  /**
+   * Smallest response compressed when the API does not set its own <code>minCompressionSize</code>, between 0 and {@link #MAX_COMPRESSION_SIZE_BYTES}
+   * bytes. Compressing responses smaller than about 1 KiB rarely saves bytes over the wire once the gzip header is added.
+   */
+  @Default
+  @NotNull
+  private final Size minCompressionSize = Size.kibibytes(1);
+
+  /**
+   * Media types served as binary in addition to the binary media types of the API.
+   */
+  @Default
+  @NotNull
+  private final List<String> binaryMediaTypes = PRE_COMPRESSED_MEDIA_TYPES;
+
+  /**
+   * @param minCompressionSize the compression threshold of the API, may be <code>null</code>
+   * @return <code>minCompressionSize</code> when it is set, otherwise the compression threshold of this profile
+   */
+  public Size toMinCompressionSize(@Nullable final Size minCompressionSize) {
+    return validateMinCompressionSize(minCompressionSize == null ? this.minCompressionSize : minCompressionSize);
+  }
+
+  /**
+   * @param binaryMediaTypes the binary media types of the API, may be <code>null</code>
+   * @return <code>binaryMediaTypes</code> followed by the binary media types of this profile, without duplicates
+   */
+  public List<String> toBinaryMediaTypes(@Nullable final List<String> binaryMediaTypes) {
+    final Set<String> mediaTypes = new LinkedHashSet<>();
+
+    if (binaryMediaTypes != null) {
+      mediaTypes.addAll(binaryMediaTypes);
+    }
+    mediaTypes.addAll(this.binaryMediaTypes);
+
+    for (final String mediaType : mediaTypes) {
+      if (!MEDIA_TYPE.matcher(mediaType).matches()) {
+        throw new IllegalArgumentException("binary media type '%s' must be a media type, e.g. 'application/gzip'".formatted(mediaType));
+      }
+    }
+
+    return new ArrayList<>(mediaTypes);
+  }
+
+  /**
+   * @param minCompressionSize compression threshold, may be <code>null</code>
+   * @return <code>minCompressionSize</code> if it is between 0 and {@link #MAX_COMPRESSION_SIZE_BYTES} bytes
+   */
+  public static Size validateMinCompressionSize(@Nullable final Size minCompressionSize) {
+    if (minCompressionSize == null) {
+      return null;
+    }
+
+    final long bytes = minCompressionSize.toBytes().longValue();
+    if (bytes < 0 || bytes > MAX_COMPRESSION_SIZE_BYTES) {
+      throw new IllegalArgumentException("'minCompressionSize' must be between 0 and %d bytes (inclusive) but was %d".formatted(MAX_COMPRESSION_SIZE_BYTES, bytes));
+    }
+
+    return minCompressionSize;
+  }
+}
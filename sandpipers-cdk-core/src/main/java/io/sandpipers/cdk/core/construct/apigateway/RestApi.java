@@ -55,11 +55,11 @@ public class RestApi extends Construct implements BaseConstruct {
     this.restApi = software.amazon.awscdk.services.apigateway.RestApi.Builder.create(this, id.getValue())
         .defaultCorsPreflightOptions(props.getDefaultCorsPreflightOptions())
         .defaultIntegration(props.getDefaultIntegration())
-        .defaultMethodOptions(props.getDefaultMethodOptions())
+        .defaultMethodOptions(toDefaultMethodOptions(props))
         .cloudWatchRole(props.getCloudWatchRole())
         .cloudWatchRoleRemovalPolicy(props.getCloudWatchRoleRemovalPolicy())
         .deploy(props.getDeploy())
-        .deployOptions(props.getDeployOptions())
+        .deployOptions(toDeployOptions(props))
         .description(props.getDescription())
         .disableExecuteApiEndpoint(props.getDisableExecuteApiEndpoint())
         .domainName(props.getDomainName())
@@ -70,11 +70,63 @@ public class RestApi extends Construct implements BaseConstruct {
         .policy(props.getPolicy())
         .retainDeployments(props.getRetainDeployments())
         .apiKeySourceType(props.getApiKeySourceType())
-        .binaryMediaTypes(props.getBinaryMediaTypes())
+        .binaryMediaTypes(toBinaryMediaTypes(props))
         .cloneFrom(props.getCloneFrom())
         .endpointConfiguration(props.getEndpointConfiguration())
-        .minCompressionSize(props.getMinCompressionSize())
+        .minCompressionSize(toMinCompressionSize(props))
         .build();
+
+    if (props.getCachingProfile() != null) {
+      props.getCachingProfile().addCacheKeyParameters(this);
+    }
+
+    if (props.getThrottlingProfile() != null) {
+      props.getThrottlingProfile().addUsagePlans(restApi);
+    }
+  }
+
+  /**
+   * @return <code>deployOptions</code> with the caching and throttling profiles of <code>props</code> applied
+   */
+  static StageOptions toDeployOptions(final RestApiProps props) {
+    final CachingProfile cachingProfile = props.getCachingProfile();
+    final ThrottlingProfile throttlingProfile = props.getThrottlingProfile();
+
+    final StageOptions cached = cachingProfile == null ? props.getDeployOptions() : cachingProfile.toDeployOptions(props.getDeployOptions());
+    return throttlingProfile == null ? cached : throttlingProfile.toDeployOptions(cached);
+  }
+
+  /**
+   * @return <code>defaultMethodOptions</code> with the caching and throttling profiles of <code>props</code> applied
+   */
+  static MethodOptions toDefaultMethodOptions(final RestApiProps props) {
+    final CachingProfile cachingProfile = props.getCachingProfile();
+    final ThrottlingProfile throttlingProfile = props.getThrottlingProfile();
+
+    final MethodOptions cached = cachingProfile == null
+        ? props.getDefaultMethodOptions()
+        : cachingProfile.toDefaultMethodOptions(props.getDefaultMethodOptions());
+    return throttlingProfile == null ? cached : throttlingProfile.toDefaultMethodOptions(cached);
+  }
+
+  /**
+   * @return the validated <code>minCompressionSize</code> of <code>props</code>, falling back to the one of its payload profile
+   */
+  static Size toMinCompressionSize(final RestApiProps props) {
+    final PayloadProfile payloadProfile = props.getPayloadProfile();
+
+    return payloadProfile == null
+        ? PayloadProfile.validateMinCompressionSize(props.getMinCompressionSize())
+        : payloadProfile.toMinCompressionSize(props.getMinCompressionSize());
+  }
+
+  /**
+   * @return <code>binaryMediaTypes</code> of <code>props</code> followed by the ones of its payload profile
+   */
+  static List<String> toBinaryMediaTypes(final RestApiProps props) {
+    final PayloadProfile payloadProfile = props.getPayloadProfile();
+
+    return payloadProfile == null ? props.getBinaryMediaTypes() : payloadProfile.toBinaryMediaTypes(props.getBinaryMediaTypes());
   }
 
   @Getter
@@ -145,6 +197,24 @@ public class RestApi extends Construct implements BaseConstruct {
     @Range(from = 0, to = 10485760)
     // non-negative between 0 and 10485760 (10M) bytes
     private Size minCompressionSize;
+
+    /**
+     * Stage cache applied on top of <code>deployOptions</code> and <code>defaultMethodOptions</code>.
+     */
+    @Nullable
+    private CachingProfile cachingProfile;
+
+    /**
+     * Stage, method and usage plan throttling applied on top of <code>deployOptions</code> and <code>defaultMethodOptions</code>.
+     */
+    @Nullable
+    private ThrottlingProfile throttlingProfile;
+
+    /**
+     * Response compression used when <code>minCompressionSize</code> is not set, and binary media types added to <code>binaryMediaTypes</code>.
+     */
+    @Nullable
+    private PayloadProfile payloadProfile;
   }
 
 }
@@ -0,0 +1,225 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.apigateway.ApiKeyOptions;
+import software.amazon.awscdk.services.apigateway.IApiKey;
+import software.amazon.awscdk.services.apigateway.MethodDeploymentOptions;
+import software.amazon.awscdk.services.apigateway.MethodOptions;
+import software.amazon.awscdk.services.apigateway.Period;
+import software.amazon.awscdk.services.apigateway.QuotaSettings;
+import software.amazon.awscdk.services.apigateway.StageOptions;
+import software.amazon.awscdk.services.apigateway.ThrottleSettings;
+import software.amazon.awscdk.services.apigateway.UsagePlan;
+import software.amazon.awscdk.services.apigateway.UsagePlanPerApiStage;
+import software.amazon.awscdk.services.apigateway.UsagePlanProps;
+
+/**
+ * Request throttling of a {@link RestApi} or {@link LambdaRestApi}. The stage is throttled to <code>rateLimit</code> requests per second with bursts of
+ * <code>burstLimit</code>, individual methods can be throttled tighter, and each {@link ClientUsagePlan} throttles and caps the API keys of one group of
+ * clients, so a noisy client exhausts its own quota rather than the capacity of the whole API.
+ * <pre>{@code
+ * ThrottlingProfile.builder()
+ *     .burstLimit(200)
+ *     .rateLimit(100.0)
+ *     .methodOverride("/orders/POST", MethodThrottling.builder().burstLimit(20).rateLimit(10.0).build())
+ *     .usagePlan(ClientUsagePlan.builder()
+ *         .name("Partners")
+ *         .burstLimit(20)
+ *         .rateLimit(10.0)
+ *         .quotaLimit(100000)
+ *         .quotaPeriod(Period.MONTH)
+ *         .apiKey("acme")
+ *         .build())
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@SuperBuilder
+public class ThrottlingProfile {
+
+  @NotNull
+  private final Integer burstLimit;
+
+  /**
+   * Steady-state requests per second.
+   */
+  @NotNull
+  private final Double rateLimit;
+
+  /**
+   * Throttling of individual methods keyed by method path, i.e. resource path followed by the HTTP method, e.g. <code>/users/{id}/GET</code>.
+   */
+  @Singular
+  private final Map<String, MethodThrottling> methodOverrides;
+
+  @Singular
+  private final List<ClientUsagePlan> usagePlans;
+
+  /**
+   * Whether methods require an API key, which is what makes usage plans apply to requests. Defaults to <code>true</code> when there are usage plans.
+   */
+  @Nullable
+  private final Boolean apiKeyRequired;
+
+  /**
+   * @param deployOptions the stage options to throttle, may be <code>null</code>
+   * @return a copy of <code>deployOptions</code> with the stage and method throttling of this profile
+   */
+  public StageOptions toDeployOptions(@Nullable final StageOptions deployOptions) {
+    validateLimits("stage", burstLimit, rateLimit);
+
+    final Map<String, MethodDeploymentOptions> methodOptions = ApiOptions.methodOptionsOf(deployOptions);
+    methodOverrides.forEach((methodPath, methodThrottling) -> {
+      ApiOptions.validateMethodPath(methodPath);
+      validateLimits("method '%s'".formatted(methodPath), methodThrottling.getBurstLimit(), methodThrottling.getRateLimit());
+
+      methodOptions.put(methodPath, ApiOptions.builderFrom(methodOptions.get(methodPath))
+          .throttlingBurstLimit(methodThrottling.getBurstLimit())
+          .throttlingRateLimit(methodThrottling.getRateLimit())
+          .build());
+    });
+
+    return ApiOptions.builderFrom(deployOptions)
+        .methodOptions(methodOptions)
+        .throttlingBurstLimit(burstLimit)
+        .throttlingRateLimit(rateLimit)
+        .build();
+  }
+
+  /**
+   * @param defaultMethodOptions the default method options of the API, may be <code>null</code>
+   * @return a copy of <code>defaultMethodOptions</code> requiring an API key when {@link #isApiKeyRequired()}
+   */
+  public MethodOptions toDefaultMethodOptions(@Nullable final MethodOptions defaultMethodOptions) {
+    if (!isApiKeyRequired()) {
+      return defaultMethodOptions;
+    }
+
+    return ApiOptions.builderFrom(defaultMethodOptions)
+        .apiKeyRequired(true)
+        .build();
+  }
+
+  public boolean isApiKeyRequired() {
+    return apiKeyRequired == null ? !usagePlans.isEmpty() : apiKeyRequired;
+  }
+
+  /**
+   * Creates the usage plans of this profile on the deployment stage of <code>restApi</code>, together with their API keys.
+   */
+  public void addUsagePlans(@NotNull final software.amazon.awscdk.services.apigateway.RestApi restApi) {
+    if (!usagePlans.isEmpty() && restApi.getDeploymentStage() == null) {
+      throw new IllegalArgumentException("usage plans require 'deploy' to be enabled");
+    }
+
+    for (final ClientUsagePlan clientUsagePlan : usagePlans) {
+      validateLimits("usage plan '%s'".formatted(clientUsagePlan.getName()), clientUsagePlan.getBurstLimit(), clientUsagePlan.getRateLimit());
+
+      if (clientUsagePlan.getQuotaLimit() != null && clientUsagePlan.getQuotaLimit() < 1) {
+        throw new IllegalArgumentException("'quotaLimit' of usage plan '%s' must be at least 1".formatted(clientUsagePlan.getName()));
+      }
+
+      final UsagePlan usagePlan = restApi.addUsagePlan(clientUsagePlan.getName() + "UsagePlan", UsagePlanProps.builder()
+          .name(clientUsagePlan.getName())
+          .throttle(ThrottleSettings.builder()
+              .burstLimit(clientUsagePlan.getBurstLimit())
+              .rateLimit(clientUsagePlan.getRateLimit())
+              .build())
+          .quota(clientUsagePlan.getQuotaLimit() == null ? null : QuotaSettings.builder()
+              .limit(clientUsagePlan.getQuotaLimit())
+              .period(clientUsagePlan.getQuotaPeriod())
+              .build())
+          .apiStages(List.of(UsagePlanPerApiStage.builder()
+              .api(restApi)
+              .stage(restApi.getDeploymentStage())
+              .build()))
+          .build());
+
+      for (final String apiKeyName : clientUsagePlan.getApiKeys()) {
+        final IApiKey apiKey = restApi.addApiKey(clientUsagePlan.getName() + apiKeyName + "ApiKey", ApiKeyOptions.builder()
+            .apiKeyName(apiKeyName)
+            .build());
+
+        usagePlan.addApiKey(apiKey);
+      }
+    }
+  }
+
+  private static void validateLimits(final String name, final Integer burstLimit, final Double rateLimit) {
+    if (burstLimit == null || burstLimit < 0) {
+      throw new IllegalArgumentException("'burstLimit' of %s must be at least 0".formatted(name));
+    }
+
+    if (rateLimit == null || rateLimit < 0) {
+      throw new IllegalArgumentException("'rateLimit' of %s must be at least 0".formatted(name));
+    }
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class MethodThrottling {
+
+    @NotNull
+    private final Integer burstLimit;
+
+    @NotNull
+    private final Double rateLimit;
+  }
+
+  /**
+   * Usage plan throttling and capping the requests of every API key in <code>apiKeys</code>.
+   */
+  @Getter
+  @SuperBuilder
+  public static class ClientUsagePlan {
+
+    @NotNull
+    private final String name;
+
+    @NotNull
+    private final Integer burstLimit;
+
+    @NotNull
+    private final Double rateLimit;
+
+    /**
+     * Maximum number of requests per <code>quotaPeriod</code>, unlimited if <code>null</code>.
+     */
+    @Nullable
+    private final Integer quotaLimit;
+
+    @Default
+    @NotNull
+    private final Period quotaPeriod = Period.MONTH;
+
+    /**
+     * Names of the API keys created for the clients of this plan.
+     */
+    @Singular
+    private final List<String> apiKeys;
+  }
+}
@@ -19,6 +19,7 @@ package io.sandpipers.cdk.core.construct.apprunner;
 
 import io.sandpipers.cdk.core.construct.BaseConstruct;
 import io.sandpipers.cdk.core.construct.apprunner.AbstractAppRunnerService.AppRunnerServiceProps;
+import io.sandpipers.cdk.core.construct.apprunner.AutoScalingConfiguration.AutoScalingConfigurationProps;
 import io.sadpipers.cdk.type.AWSArn;
 import io.sadpipers.cdk.type.AWSEcrImageIdentifier;
 import io.sadpipers.cdk.type.AppRunnerCpu;
@@ -62,6 +63,12 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
 
   protected CfnService service;
 
+  @Nullable
+  protected AutoScalingConfiguration<AutoScalingConfigurationProps> autoScalingConfiguration;
+
+  @Nullable
+  protected ObservabilityConfiguration observabilityConfiguration;
+
   public AbstractAppRunnerService(@NotNull final Construct scope, @NotNull final SafeString id) {
     super(scope, id.getValue());
   }
@@ -86,13 +93,32 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
 
     final InstanceConfigurationProperty instanceConfigurationProperty = createInstanceConfigurationProperty(id, props);
 
+    this.autoScalingConfiguration = createAutoScalingConfiguration(id, props);
+
+    this.observabilityConfiguration = Boolean.TRUE.equals(props.getTracingEnabled())
+        ? new ObservabilityConfiguration(this, SafeString.of(id.getValue() + "ObservabilityConfiguration"))
+        : null;
+
     return CfnService.Builder.create(scope, id.getValue())
         .networkConfiguration(networkConfiguration).sourceConfiguration(sourceConfigurationProperty)
         .healthCheckConfiguration(healthCheckConfigurationProperty)
         .instanceConfiguration(instanceConfigurationProperty)
+        .autoScalingConfigurationArn(autoScalingConfiguration == null ? null
+            : autoScalingConfiguration.getAutoScalingConfiguration().getAttrAutoScalingConfigurationArn())
+        .observabilityConfiguration(observabilityConfiguration == null ? null : observabilityConfiguration.toServiceObservabilityConfiguration())
         .build();
   }
 
+  @Nullable
+  protected AutoScalingConfiguration<AutoScalingConfigurationProps> createAutoScalingConfiguration(@NotNull final SafeString id, @NotNull final T props) {
+    final AutoScalingConfigurationProps autoScalingConfigurationProps = props.toAutoScalingConfigurationProps();
+    if (autoScalingConfigurationProps == null) {
+      return null;
+    }
+
+    return new AutoScalingConfiguration<>(this, SafeString.of(id.getValue() + "AutoScalingConfiguration"), autoScalingConfigurationProps);
+  }
+
   @NotNull
   protected SourceConfigurationProperty createSourceConfigurationProperty(@NotNull final T props) {
     final ImageConfigurationProperty imageConfigurationProperty = ImageConfigurationProperty.builder()
@@ -115,6 +141,10 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
     final Role instanceRole = createRole(id, INSTANCE_ROLE_ID_SUFFIX, INSTANCE_ROLE_PRINCIPAL);
     props.policyStatements.forEach(instanceRole::addToPolicy);
 
+    if (Boolean.TRUE.equals(props.getTracingEnabled())) {
+      instanceRole.addToPolicy(ObservabilityConfiguration.createXRayPolicyStatement());
+    }
+
     return InstanceConfigurationProperty.builder()
         .cpu(props.getCpu().getValue())
         .memory(props.getMemory().getValue())
@@ -136,7 +166,7 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
     // TODO check if vpcConnectorArn is null and egressType is VPC
     final EgressConfigurationProperty egressConfigurationProperty = EgressConfigurationProperty.builder()
         .egressType(egressType.getValue())
-        .vpcConnectorArn(vpcConnectorArn.getValue())
+        .vpcConnectorArn(vpcConnectorArn == null ? null : vpcConnectorArn.getValue())
         .build();
 
     final IngressConfigurationProperty ingressConfiguration = IngressConfigurationProperty.builder()
@@ -194,13 +224,40 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
     private final Protocol healthCheckProtocol = Protocol.of("HTTP");
 
     @Default
-    protected final AppRunnerMemory memory = AppRunnerMemory.of("2 GB");
+    protected final AppRunnerMemory memory = AppRunnerMemory.of("2");
 
     @Default
-    protected final AppRunnerCpu cpu = AppRunnerCpu.of("1 vCPU");
+    protected final AppRunnerCpu cpu = AppRunnerCpu.of("1");
 
     private final SafeString egressType;
 
     private final Boolean publiclyAccessible;
+
+    /**
+     * Concurrent requests an instance serves before the service scales out. The service keeps the App Runner default auto scaling configuration unless
+     * <code>maxConcurrency</code>, <code>minSize</code> or <code>maxSize</code> is set.
+     */
+    @Nullable
+    private final Integer maxConcurrency;
+
+    @Nullable
+    private final Integer minSize;
+
+    @Nullable
+    private final Integer maxSize;
+
+    /**
+     * Whether requests are traced with AWS X-Ray. The application still needs to be instrumented, e.g. with the AWS Distro for OpenTelemetry.
+     */
+    @Default
+    private final Boolean tracingEnabled = false;
+
+    /**
+     * @return the auto scaling configuration of the service, or <code>null</code> if it keeps the App Runner default
+     */
+    @Nullable
+    public AutoScalingConfigurationProps toAutoScalingConfigurationProps() {
+      return AutoScalingConfigurationProps.of(maxConcurrency, minSize, maxSize);
+    }
   }
 }
\ No newline at end of file
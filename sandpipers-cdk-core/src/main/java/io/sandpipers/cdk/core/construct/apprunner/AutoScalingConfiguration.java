@@ -0,0 +1,116 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apprunner;
+
+import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sandpipers.cdk.core.construct.apprunner.AutoScalingConfiguration.AutoScalingConfigurationProps;
+import io.sadpipers.cdk.type.SafeString;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.apprunner.CfnAutoScalingConfiguration;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct representing AWS::AppRunner::AutoScalingConfiguration. App Runner adds an instance whenever every instance serves
+ * <code>maxConcurrency</code> concurrent requests, so CPU-bound services want a low <code>maxConcurrency</code> and IO-bound services a high one. Unset
+ * properties fall back to the App Runner defaults.
+ */
+@Getter
+public class AutoScalingConfiguration<T extends AutoScalingConfigurationProps> extends Construct implements BaseConstruct {
+
+  public static final int DEFAULT_MAX_CONCURRENCY = 100;
+  public static final int DEFAULT_MIN_SIZE = 1;
+  public static final int DEFAULT_MAX_SIZE = 25;
+
+  private static final int MAX_CONCURRENCY_LIMIT = 200;
+  private static final int SIZE_LIMIT = 25;
+
+  private final CfnAutoScalingConfiguration autoScalingConfiguration;
+
+  public AutoScalingConfiguration(@NotNull final Construct scope, @NotNull final SafeString id, @NotNull final T props) {
+    super(scope, id.getValue());
+
+    final int maxConcurrency = Objects.requireNonNullElse(props.getMaxConcurrency(), DEFAULT_MAX_CONCURRENCY);
+    final int minSize = Objects.requireNonNullElse(props.getMinSize(), DEFAULT_MIN_SIZE);
+    final int maxSize = Objects.requireNonNullElse(props.getMaxSize(), DEFAULT_MAX_SIZE);
+
+    validateRange("maxConcurrency", maxConcurrency, MAX_CONCURRENCY_LIMIT);
+    validateRange("minSize", minSize, SIZE_LIMIT);
+    validateRange("maxSize", maxSize, SIZE_LIMIT);
+
+    if (minSize > maxSize) {
+      throw new IllegalArgumentException("'minSize' must not be greater than 'maxSize' but was %d > %d".formatted(minSize, maxSize));
+    }
+
+    this.autoScalingConfiguration = CfnAutoScalingConfiguration.Builder.create(this, id.getValue())
+        .maxConcurrency(maxConcurrency)
+        .minSize(minSize)
+        .maxSize(maxSize)
+        .build();
+  }
+
+  private static void validateRange(final String name, final int value, final int max) {
+    if (value < 1 || value > max) {
+      throw new IllegalArgumentException("'%s' must be between 1 and %d (inclusive)".formatted(name, max));
+    }
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class AutoScalingConfigurationProps {
+
+    /**
+     * Concurrent requests an instance serves before App Runner scales out, defaults to {@link AutoScalingConfiguration#DEFAULT_MAX_CONCURRENCY}.
+     */
+    @Nullable
+    private final Integer maxConcurrency;
+
+    /**
+     * Instances kept provisioned, defaults to {@link AutoScalingConfiguration#DEFAULT_MIN_SIZE}.
+     */
+    @Nullable
+    private final Integer minSize;
+
+    /**
+     * Instances the service scales out to at most, defaults to {@link AutoScalingConfiguration#DEFAULT_MAX_SIZE}.
+     */
+    @Nullable
+    private final Integer maxSize;
+
+    /**
+     * @return the props for the given values, or <code>null</code> if none is set and the App Runner default auto scaling configuration applies
+     */
+    @Nullable
+    public static AutoScalingConfigurationProps of(@Nullable final Integer maxConcurrency,
+        @Nullable final Integer minSize,
+        @Nullable final Integer maxSize) {
+      if (maxConcurrency == null && minSize == null && maxSize == null) {
+        return null;
+      }
+
+      return AutoScalingConfigurationProps.builder()
+          .maxConcurrency(maxConcurrency)
+          .minSize(minSize)
+          .maxSize(maxSize)
+          .build();
+    }
+  }
+}
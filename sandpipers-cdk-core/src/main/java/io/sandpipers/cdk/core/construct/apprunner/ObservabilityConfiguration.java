@@ -0,0 +1,86 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apprunner;
+
+import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sadpipers.cdk.type.SafeString;
+import java.util.List;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.services.apprunner.CfnObservabilityConfiguration;
+import software.amazon.awscdk.services.apprunner.CfnObservabilityConfiguration.TraceConfigurationProperty;
+import software.amazon.awscdk.services.apprunner.CfnService.ServiceObservabilityConfigurationProperty;
+import software.amazon.awscdk.services.iam.Effect;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct representing AWS::AppRunner::ObservabilityConfiguration tracing requests with AWS X-Ray. The instance role of the service needs
+ * {@link #createXRayPolicyStatement()} for the application to send its traces.
+ */
+@Getter
+public class ObservabilityConfiguration extends Construct implements BaseConstruct {
+
+  public static final String TRACE_VENDOR_AWS_XRAY = "AWSXRAY";
+
+  /**
+   * Actions needed to send segments and use centralised sampling rules, a subset of the <code>AWSXRayDaemonWriteAccess</code> managed policy.
+   */
+  public static final List<String> X_RAY_ACTIONS = List.of(
+      "xray:PutTraceSegments",
+      "xray:PutTelemetryRecords",
+      "xray:GetSamplingRules",
+      "xray:GetSamplingTargets");
+
+  private final CfnObservabilityConfiguration observabilityConfiguration;
+
+  public ObservabilityConfiguration(@NotNull final Construct scope, @NotNull final SafeString id) {
+    super(scope, id.getValue());
+
+    this.observabilityConfiguration = CfnObservabilityConfiguration.Builder.create(this, id.getValue())
+        .traceConfiguration(TraceConfigurationProperty.builder()
+            .vendor(TRACE_VENDOR_AWS_XRAY)
+            .build())
+        .build();
+  }
+
+  /**
+   * @return the observability configuration of a service enabling this configuration
+   */
+  @NotNull
+  public ServiceObservabilityConfigurationProperty toServiceObservabilityConfiguration() {
+    return ServiceObservabilityConfigurationProperty.builder()
+        .observabilityEnabled(true)
+        .observabilityConfigurationArn(observabilityConfiguration.getAttrObservabilityConfigurationArn())
+        .build();
+  }
+
+  /**
+   * X-Ray does not support resource-level permissions, hence the statement applies to all resources.
+   *
+   * @return statement allowing the instance role to send traces to X-Ray
+   */
+  @NotNull
+  public static PolicyStatement createXRayPolicyStatement() {
+    return PolicyStatement.Builder.create()
+        .effect(Effect.ALLOW)
+        .actions(X_RAY_ACTIONS)
+        .resources(List.of("*"))
+        .build();
+  }
+}
@@ -30,7 +30,7 @@ public class PrivateIngressPrivateEgressAppRunnerService<T extends PrivateIngres
   public PrivateIngressPrivateEgressAppRunnerService(@NotNull final Construct scope, @NotNull final SafeString id, @NotNull final T props) {
     super(scope, id);
 
-    this.service = createService(scope, id, props, getVPCConnectorArn(scope, props));
+    this.service = createService(this, id, props, getVPCConnectorArn(scope, props));
   }
 
   @Getter
@@ -30,7 +30,7 @@ public class PublicIngressPublicEgressAppRunnerService<T extends PublicIngressPu
   public PublicIngressPublicEgressAppRunnerService(@NotNull final Construct scope, @NotNull final SafeString id, @NotNull final T props) {
     super(scope, id);
 
-    this.service = createService(scope, id, props);
+    this.service = createService(this, id, props);
   }
 
   @Getter
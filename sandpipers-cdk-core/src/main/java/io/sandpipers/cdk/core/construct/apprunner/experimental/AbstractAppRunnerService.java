@@ -18,6 +18,9 @@
 package io.sandpipers.cdk.core.construct.apprunner.experimental;
 
 import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sandpipers.cdk.core.construct.apprunner.AutoScalingConfiguration;
+import io.sandpipers.cdk.core.construct.apprunner.AutoScalingConfiguration.AutoScalingConfigurationProps;
+import io.sandpipers.cdk.core.construct.apprunner.ObservabilityConfiguration;
 import io.sandpipers.cdk.core.construct.apprunner.experimental.AbstractAppRunnerService.AppRunnerServiceProps;
 import io.sadpipers.cdk.type.Path;
 import io.sadpipers.cdk.type.SafeString;
@@ -30,10 +33,12 @@ import lombok.Getter;
 import lombok.Singular;
 import lombok.experimental.SuperBuilder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awscdk.Arn;
 import software.amazon.awscdk.ArnComponents;
 import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.apprunner.CfnService;
 import software.amazon.awscdk.services.apprunner.alpha.Cpu;
 import software.amazon.awscdk.services.apprunner.alpha.EcrProps;
 import software.amazon.awscdk.services.apprunner.alpha.EcrSource;
@@ -62,6 +67,12 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
 
   protected Service service;
 
+  @Nullable
+  protected AutoScalingConfiguration<AutoScalingConfigurationProps> autoScalingConfiguration;
+
+  @Nullable
+  protected ObservabilityConfiguration observabilityConfiguration;
+
   public AbstractAppRunnerService(@NotNull final Construct scope, @NotNull final SafeString id) {
     super(scope, id.getValue());
   }
@@ -109,6 +120,42 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
         .build());
   }
 
+  /**
+   * Attaches an auto scaling configuration to {@link #service} if <code>props</code> configures one. The alpha {@link Service} does not expose the auto
+   * scaling configuration, hence it is set on the underlying {@link CfnService}.
+   */
+  protected void attachAutoScalingConfiguration(final String serviceId,
+      final T props) {
+    final AutoScalingConfigurationProps autoScalingConfigurationProps = props.toAutoScalingConfigurationProps();
+    if (autoScalingConfigurationProps == null) {
+      return;
+    }
+
+    this.autoScalingConfiguration = new AutoScalingConfiguration<>(this, SafeString.of(serviceId + "AutoScalingConfiguration"),
+        autoScalingConfigurationProps);
+
+    final CfnService cfnService = (CfnService) service.getNode().getDefaultChild();
+    cfnService.setAutoScalingConfigurationArn(autoScalingConfiguration.getAutoScalingConfiguration().getAttrAutoScalingConfigurationArn());
+  }
+
+  /**
+   * Attaches an X-Ray observability configuration to {@link #service} and lets <code>instanceRole</code> send traces if <code>props</code> enables tracing.
+   * The alpha {@link Service} does not expose the observability configuration, hence it is set on the underlying {@link CfnService}.
+   */
+  protected void attachObservabilityConfiguration(final String serviceId,
+      final T props,
+      final Role instanceRole) {
+    if (!Boolean.TRUE.equals(props.getTracingEnabled())) {
+      return;
+    }
+
+    this.observabilityConfiguration = new ObservabilityConfiguration(this, SafeString.of(serviceId + "ObservabilityConfiguration"));
+    instanceRole.addToPolicy(ObservabilityConfiguration.createXRayPolicyStatement());
+
+    final CfnService cfnService = (CfnService) service.getNode().getDefaultChild();
+    cfnService.setObservabilityConfiguration(observabilityConfiguration.toServiceObservabilityConfiguration());
+  }
+
   protected Role createRole(final String serviceId,
       final String idSuffix,
       final String assumedByPrincipal) {
@@ -147,5 +194,32 @@ public abstract class AbstractAppRunnerService<T extends AppRunnerServiceProps>
 
     @Default
     protected final Cpu cpu = Cpu.ONE_VCPU;
+
+    /**
+     * Concurrent requests an instance serves before the service scales out. The service keeps the App Runner default auto scaling configuration unless
+     * <code>maxConcurrency</code>, <code>minSize</code> or <code>maxSize</code> is set.
+     */
+    @Nullable
+    private final Integer maxConcurrency;
+
+    @Nullable
+    private final Integer minSize;
+
+    @Nullable
+    private final Integer maxSize;
+
+    /**
+     * Whether requests are traced with AWS X-Ray. The application still needs to be instrumented, e.g. with the AWS Distro for OpenTelemetry.
+     */
+    @Default
+    private final Boolean tracingEnabled = false;
+
+    /**
+     * @return the auto scaling configuration of the service, or <code>null</code> if it keeps the App Runner default
+     */
+    @Nullable
+    public AutoScalingConfigurationProps toAutoScalingConfigurationProps() {
+      return AutoScalingConfigurationProps.of(maxConcurrency, minSize, maxSize);
+    }
   }
 }
@@ -61,5 +61,8 @@ public class PublicIngressPrivateEgressAppRunnerService<T extends PrivateEgressA
         .memory(props.memory)
         .cpu(props.cpu)
         .build();
+
+    attachAutoScalingConfiguration(serviceId, props);
+    attachObservabilityConfiguration(serviceId, props, instanceRole);
   }
 }
\ No newline at end of file
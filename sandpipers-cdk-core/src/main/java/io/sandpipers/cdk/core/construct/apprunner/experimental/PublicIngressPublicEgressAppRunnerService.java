@@ -56,5 +56,8 @@ public class PublicIngressPublicEgressAppRunnerService<T extends AppRunnerServic
         .memory(props.memory)
         .cpu(props.cpu)
         .build();
+
+    attachAutoScalingConfiguration(serviceId, props);
+    attachObservabilityConfiguration(serviceId, props, instanceRole);
   }
 }
\ No newline at end of file
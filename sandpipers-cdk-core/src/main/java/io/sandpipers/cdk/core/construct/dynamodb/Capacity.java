@@ -0,0 +1,90 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.dynamodb;
+
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import software.amazon.awscdk.services.dynamodb.AutoscaledCapacityOptions;
+import software.amazon.awscdk.services.dynamodb.Billing;
+import software.amazon.awscdk.services.dynamodb.ThroughputProps;
+
+/**
+ * Auto-scaled provisioned capacity profile for {@link TableV2}. Read and write capacity scale between their min and max to keep the consumed capacity
+ * at <code>targetUtilizationPercent</code>. The same profile is applied to the table and to every global secondary index without its own capacity.
+ */
+@Getter
+@SuperBuilder
+public class Capacity {
+
+  @Default
+  @NotNull
+  private final Integer minReadCapacity = 1;
+
+  @NotNull
+  private final Integer maxReadCapacity;
+
+  @Default
+  @NotNull
+  private final Integer minWriteCapacity = 1;
+
+  @NotNull
+  private final Integer maxWriteCapacity;
+
+  @Default
+  @NotNull
+  @Range(from = 20, to = 90)
+  private final Integer targetUtilizationPercent = 70;
+
+  public Billing toBilling() {
+    return Billing.provisioned(ThroughputProps.builder()
+        .readCapacity(toReadCapacity())
+        .writeCapacity(toWriteCapacity())
+        .build());
+  }
+
+  public software.amazon.awscdk.services.dynamodb.Capacity toReadCapacity() {
+    return autoscaled("ReadCapacity", minReadCapacity, maxReadCapacity);
+  }
+
+  public software.amazon.awscdk.services.dynamodb.Capacity toWriteCapacity() {
+    return autoscaled("WriteCapacity", minWriteCapacity, maxWriteCapacity);
+  }
+
+  private software.amazon.awscdk.services.dynamodb.Capacity autoscaled(final String name, final int min, final int max) {
+    if (min < 1) {
+      throw new IllegalArgumentException("'min%s' must be at least 1".formatted(name));
+    }
+
+    if (max < min) {
+      throw new IllegalArgumentException("'max%s' must be greater than or equal to 'min%s'".formatted(name, name));
+    }
+
+    if (targetUtilizationPercent < 20 || targetUtilizationPercent > 90) {
+      throw new IllegalArgumentException("'targetUtilizationPercent' must be between 20 and 90 (inclusive)");
+    }
+
+    return software.amazon.awscdk.services.dynamodb.Capacity.autoscaled(AutoscaledCapacityOptions.builder()
+        .minCapacity(min)
+        .maxCapacity(max)
+        .targetUtilizationPercent(targetUtilizationPercent)
+        .build());
+  }
+}
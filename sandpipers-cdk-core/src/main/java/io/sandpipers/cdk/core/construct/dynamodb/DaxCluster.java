@@ -0,0 +1,175 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.dynamodb;
+
+import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sandpipers.cdk.core.construct.dynamodb.DaxCluster.DaxClusterProps;
+import io.sadpipers.cdk.type.SafeString;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.dax.CfnCluster;
+import software.amazon.awscdk.services.dax.CfnCluster.SSESpecificationProperty;
+import software.amazon.awscdk.services.dax.CfnParameterGroup;
+import software.amazon.awscdk.services.dax.CfnSubnetGroup;
+import software.amazon.awscdk.services.ec2.IConnectable;
+import software.amazon.awscdk.services.ec2.ISubnet;
+import software.amazon.awscdk.services.ec2.IVpc;
+import software.amazon.awscdk.services.ec2.Port;
+import software.amazon.awscdk.services.ec2.SecurityGroup;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ec2.SubnetType;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct representing AWS::DAX::Cluster in front of a {@link TableV2}. Creates the subnet group, the parameter group holding the item and query
+ * cache TTLs, a role DAX assumes to read and write only the given table, and a security group with no ingress until
+ * {@link #allowConnectionsFrom(IConnectable)} is called. The cluster is always encrypted at rest and, by default, in transit.
+ */
+@Getter
+public class DaxCluster<T extends DaxClusterProps> extends Construct implements BaseConstruct {
+
+  public static final int TLS_PORT = 9111;
+
+  public static final int PLAIN_TEXT_PORT = 8111;
+
+  private final CfnCluster cluster;
+
+  private final CfnSubnetGroup subnetGroup;
+
+  private final CfnParameterGroup parameterGroup;
+
+  private final Role role;
+
+  private final SecurityGroup securityGroup;
+
+  private final int port;
+
+  public DaxCluster(@NotNull final Construct scope,
+      @NotNull final SafeString id,
+      @NotNull final T props) {
+    super(scope, id.getValue());
+
+    final Integer replicationFactor = props.getReplicationFactor();
+    if (replicationFactor < 1 || replicationFactor > 10) {
+      throw new IllegalArgumentException("'replicationFactor' must be between 1 and 10 (inclusive)");
+    }
+
+    final List<String> subnetIds = props.getVpc().selectSubnets(props.getSubnets()).getSubnets().stream()
+        .map(ISubnet::getSubnetId)
+        .toList();
+
+    this.subnetGroup = CfnSubnetGroup.Builder.create(this, "SubnetGroup")
+        .description("Subnets of DAX cluster %s".formatted(id.getValue()))
+        .subnetIds(subnetIds)
+        .build();
+
+    this.parameterGroup = CfnParameterGroup.Builder.create(this, "ParameterGroup")
+        .description("Cache TTLs of DAX cluster %s".formatted(id.getValue()))
+        .parameterNameValues(Map.of(
+            "record-ttl-millis", String.valueOf(props.getItemCacheTtl().toMilliseconds().longValue()),
+            "query-ttl-millis", String.valueOf(props.getQueryCacheTtl().toMilliseconds().longValue())))
+        .build();
+
+    this.role = Role.Builder.create(this, "Role")
+        .assumedBy(new ServicePrincipal("dax.amazonaws.com"))
+        .build();
+    props.getTable().getTable().grantReadWriteData(role);
+
+    this.securityGroup = SecurityGroup.Builder.create(this, "SecurityGroup")
+        .vpc(props.getVpc())
+        .description("DAX cluster %s".formatted(id.getValue()))
+        .allowAllOutbound(false)
+        .build();
+
+    this.port = props.getEncryptionInTransit() ? TLS_PORT : PLAIN_TEXT_PORT;
+
+    this.cluster = CfnCluster.Builder.create(this, id.getValue())
+        .iamRoleArn(role.getRoleArn())
+        .nodeType(props.getNodeType())
+        .replicationFactor(replicationFactor)
+        .subnetGroupName(subnetGroup.getRef())
+        .parameterGroupName(parameterGroup.getRef())
+        .securityGroupIds(List.of(securityGroup.getSecurityGroupId()))
+        .clusterEndpointEncryptionType(props.getEncryptionInTransit() ? "TLS" : "NONE")
+        .sseSpecification(SSESpecificationProperty.builder()
+            .sseEnabled(true)
+            .build())
+        .build();
+    cluster.getNode().addDependency(role);
+  }
+
+  /**
+   * Allows <code>other</code>, e.g. a function in the same VPC, to connect to the cluster endpoint.
+   */
+  public void allowConnectionsFrom(@NotNull final IConnectable other) {
+    securityGroup.getConnections().allowFrom(other, Port.tcp(port), "DAX cluster endpoint");
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class DaxClusterProps {
+
+    @NotNull
+    private final TableV2 table;
+
+    /**
+     * VPC of the cluster, e.g. {@link io.sandpipers.cdk.core.construct.ec2.Vpc#getVpc()} or
+     * {@link io.sandpipers.cdk.core.construct.ec2.ExistingVpc#getVpc()}.
+     */
+    @NotNull
+    private final IVpc vpc;
+
+    @Default
+    @NotNull
+    private final SubnetSelection subnets = SubnetSelection.builder()
+        .subnetType(SubnetType.PRIVATE_WITH_EGRESS)
+        .build();
+
+    @Default
+    @NotNull
+    private final String nodeType = "dax.t3.small";
+
+    /**
+     * Number of nodes, at least 3 spread across availability zones is recommended for production.
+     */
+    @Default
+    @NotNull
+    @Range(from = 1, to = 10)
+    private final Integer replicationFactor = 3;
+
+    @Default
+    @NotNull
+    private final Duration itemCacheTtl = Duration.minutes(5);
+
+    @Default
+    @NotNull
+    private final Duration queryCacheTtl = Duration.minutes(5);
+
+    @Default
+    @NotNull
+    private final Boolean encryptionInTransit = true;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.dynamodb;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.dynamodb.Attribute;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexPropsV2;
+import software.amazon.awscdk.services.dynamodb.ProjectionType;
+
+/**
+ * Global secondary index of a {@link TableV2} planned from the access patterns it serves. Instead of projecting <code>ALL</code> attributes, the index
+ * projects <code>KEYS_ONLY</code> when the access patterns read nothing but key attributes, otherwise <code>INCLUDE</code> with the smallest set of
+ * non-key attributes they read. Every projected attribute is written to the index on each table write, so a narrow projection cuts write and storage
+ * cost.
+ */
+@Getter
+@SuperBuilder
+public class GlobalSecondaryIndex {
+
+  @NotNull
+  private final String indexName;
+
+  @NotNull
+  private final Attribute partitionKey;
+
+  @Nullable
+  private final Attribute sortKey;
+
+  @Singular
+  private final List<AccessPattern> accessPatterns;
+
+  /**
+   * @param tablePartitionKey partition key of the table, always projected
+   * @param tableSortKey sort key of the table, always projected
+   * @return the non-key attributes read by the access patterns, in natural order
+   */
+  public Set<String> nonKeyAttributes(@NotNull final Attribute tablePartitionKey, @Nullable final Attribute tableSortKey) {
+    final Set<String> nonKeyAttributes = new TreeSet<>();
+    accessPatterns.forEach(accessPattern -> nonKeyAttributes.addAll(accessPattern.getAttributes()));
+
+    Stream.of(tablePartitionKey, tableSortKey, partitionKey, sortKey)
+        .filter(key -> key != null)
+        .map(Attribute::getName)
+        .forEach(nonKeyAttributes::remove);
+
+    return nonKeyAttributes;
+  }
+
+  public GlobalSecondaryIndexPropsV2 toGlobalSecondaryIndexProps(@NotNull final Attribute tablePartitionKey, @Nullable final Attribute tableSortKey) {
+    if (accessPatterns.isEmpty()) {
+      throw new IllegalArgumentException("index '%s' must have at least one access pattern".formatted(indexName));
+    }
+
+    final Set<String> nonKeyAttributes = nonKeyAttributes(tablePartitionKey, tableSortKey);
+
+    final GlobalSecondaryIndexPropsV2.Builder index = GlobalSecondaryIndexPropsV2.builder()
+        .indexName(indexName)
+        .partitionKey(partitionKey)
+        .sortKey(sortKey);
+
+    if (nonKeyAttributes.isEmpty()) {
+      return index.projectionType(ProjectionType.KEYS_ONLY).build();
+    }
+
+    return index.projectionType(ProjectionType.INCLUDE)
+        .nonKeyAttributes(List.copyOf(nonKeyAttributes))
+        .build();
+  }
+
+  /**
+   * A query served by the index and the attributes it reads from the items returned.
+   */
+  @Getter
+  @SuperBuilder
+  public static class AccessPattern {
+
+    @NotNull
+    private final String name;
+
+    @Singular
+    private final Set<String> attributes;
+  }
+}
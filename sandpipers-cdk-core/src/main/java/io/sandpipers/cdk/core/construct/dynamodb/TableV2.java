@@ -20,7 +20,10 @@ package io.sandpipers.cdk.core.construct.dynamodb;
 import io.sandpipers.cdk.core.construct.BaseConstruct;
 import io.sadpipers.cdk.type.KebabCaseString;
 import io.sadpipers.cdk.type.SafeString;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.Builder.Default;
 import lombok.Getter;
 import lombok.Singular;
@@ -44,6 +47,19 @@ import software.constructs.Construct;
 @Getter
 public class TableV2 extends Construct implements BaseConstruct {
 
+  /**
+   * Maximum number of <code>nonKeyAttributes</code> summed across all secondary indexes of a table, as enforced by DynamoDB. An attribute projected
+   * into two indexes counts twice.
+   */
+  public static final int MAX_PROJECTED_ATTRIBUTES = 100;
+
+  /**
+   * Maximum number of <code>nonKeyAttributes</code> summed across the <code>plannedIndexes</code> of a table. Stricter than
+   * {@link #MAX_PROJECTED_ATTRIBUTES} to keep the write amplification of planned indexes in check; raw <code>globalSecondaryIndexes</code> and
+   * <code>localSecondaryIndexes</code> are only held to the DynamoDB limit.
+   */
+  public static final int MAX_PLANNED_PROJECTED_ATTRIBUTES = 20;
+
   private software.amazon.awscdk.services.dynamodb.TableV2 table;
 
   public TableV2(
@@ -52,16 +68,19 @@ public class TableV2 extends Construct implements BaseConstruct {
       @NotNull final TableProps props) {
     super(scope, id.getValue());
 
+    validateTimeToLiveAttribute(props);
+
     this.table = software.amazon.awscdk.services.dynamodb.TableV2.Builder.create(this, id.getValue())
-        .billing(props.getBilling())
+        .billing(billing(props))
         .tableName(props.getTableName())
         .encryption(props.getEncryption())
         .partitionKey(props.getPartitionKey())
         .removalPolicy(props.getRemovalPolicy())
         .sortKey(props.getSortKey())
+        .timeToLiveAttribute(props.getTimeToLiveAttribute())
         .deletionProtection(props.getDeletionProtection())
         .localSecondaryIndexes(props.getLocalSecondaryIndexes())
-        .globalSecondaryIndexes(props.getGlobalSecondaryIndexes())
+        .globalSecondaryIndexes(globalSecondaryIndexes(props))
         .kinesisStream(props.getKinesisStream())
         .pointInTimeRecovery(props.getPointInTimeRecovery())
         .dynamoStream(props.getDynamoStream())
@@ -70,6 +89,81 @@ public class TableV2 extends Construct implements BaseConstruct {
         .build();
   }
 
+  private static Billing billing(final TableProps props) {
+    final Capacity capacity = props.getCapacity();
+
+    if (capacity == null) {
+      return Objects.requireNonNullElse(props.getBilling(), Billing.onDemand());
+    }
+
+    if (props.getBilling() != null) {
+      throw new IllegalArgumentException("'billing' and 'capacity' must not both be set");
+    }
+
+    return capacity.toBilling();
+  }
+
+  private static void validateTimeToLiveAttribute(final TableProps props) {
+    final String timeToLiveAttribute = props.getTimeToLiveAttribute();
+
+    if (timeToLiveAttribute == null) {
+      return;
+    }
+
+    final boolean partitionKey = timeToLiveAttribute.equals(props.getPartitionKey().getName());
+    final boolean sortKey = props.getSortKey() != null && timeToLiveAttribute.equals(props.getSortKey().getName());
+
+    if (partitionKey || sortKey) {
+      throw new IllegalArgumentException("'timeToLiveAttribute' must not be a key attribute but was '%s'".formatted(timeToLiveAttribute));
+    }
+  }
+
+  private static List<GlobalSecondaryIndexPropsV2> globalSecondaryIndexes(final TableProps props) {
+    final List<GlobalSecondaryIndexPropsV2> plannedIndexes = props.getPlannedIndexes().stream()
+        .map(index -> index.toGlobalSecondaryIndexProps(props.getPartitionKey(), props.getSortKey()))
+        .toList();
+
+    final List<GlobalSecondaryIndexPropsV2> indexes = new ArrayList<>(props.getGlobalSecondaryIndexes());
+    indexes.addAll(plannedIndexes);
+
+    validateProjectedAttributes("planned indexes", plannedIndexes.stream().map(GlobalSecondaryIndexPropsV2::getNonKeyAttributes),
+        MAX_PLANNED_PROJECTED_ATTRIBUTES);
+
+    final Stream<List<String>> globalNonKeyAttributes = indexes.stream().map(GlobalSecondaryIndexPropsV2::getNonKeyAttributes);
+    final Stream<List<String>> localNonKeyAttributes = props.getLocalSecondaryIndexes().stream().map(LocalSecondaryIndexProps::getNonKeyAttributes);
+    validateProjectedAttributes("secondary indexes", Stream.concat(globalNonKeyAttributes, localNonKeyAttributes), MAX_PROJECTED_ATTRIBUTES);
+
+    final Capacity capacity = props.getCapacity();
+
+    if (capacity == null) {
+      return indexes;
+    }
+
+    return indexes.stream()
+        .map(index -> GlobalSecondaryIndexPropsV2.builder()
+            .indexName(index.getIndexName())
+            .partitionKey(index.getPartitionKey())
+            .sortKey(index.getSortKey())
+            .projectionType(index.getProjectionType())
+            .nonKeyAttributes(index.getNonKeyAttributes())
+            .readCapacity(index.getReadCapacity() == null ? capacity.toReadCapacity() : index.getReadCapacity())
+            .writeCapacity(index.getWriteCapacity() == null ? capacity.toWriteCapacity() : index.getWriteCapacity())
+            .build())
+        .toList();
+  }
+
+  private static void validateProjectedAttributes(final String indexes, final Stream<List<String>> nonKeyAttributes, final int max) {
+    final int projectedAttributes = nonKeyAttributes
+        .filter(Objects::nonNull)
+        .mapToInt(List::size)
+        .sum();
+
+    if (projectedAttributes > max) {
+      throw new IllegalArgumentException("%s must project at most %d non-key attributes in total but project %d"
+          .formatted(indexes, max, projectedAttributes));
+    }
+  }
+
   @Getter
   @SuperBuilder
   public static class TableProps implements TablePropsV2 {
@@ -78,8 +172,17 @@ public class TableV2 extends Construct implements BaseConstruct {
     @NotNull
     private final KebabCaseString tableName;
 
-    @Default
-    private Billing billing = Billing.onDemand();
+    /**
+     * Billing of the table, defaults to on-demand unless <code>capacity</code> is set. Must not be combined with <code>capacity</code>.
+     */
+    @Nullable
+    private Billing billing;
+
+    /**
+     * Auto-scaled provisioned capacity of the table and its global secondary indexes. Must not be combined with <code>billing</code>.
+     */
+    @Nullable
+    private Capacity capacity;
 
     @Default
     private RemovalPolicy removalPolicy = RemovalPolicy.RETAIN;
@@ -93,12 +196,21 @@ public class TableV2 extends Construct implements BaseConstruct {
     @Singular
     private List<GlobalSecondaryIndexPropsV2> globalSecondaryIndexes;
 
+    /**
+     * Global secondary indexes whose projection is planned from their access patterns, created alongside <code>globalSecondaryIndexes</code>.
+     */
+    @Singular
+    private List<GlobalSecondaryIndex> plannedIndexes;
+
     @Singular
     private List<LocalSecondaryIndexProps> localSecondaryIndexes;
 
     @Nullable
     private Attribute sortKey;
 
+    /**
+     * Number attribute holding the epoch second after which DynamoDB deletes the item. Must not be the partition or sort key.
+     */
     @Nullable
     private String timeToLiveAttribute;
 
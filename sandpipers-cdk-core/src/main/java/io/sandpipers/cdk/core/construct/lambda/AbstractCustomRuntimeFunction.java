@@ -24,6 +24,7 @@ import io.sandpipers.cdk.core.construct.sns.Topic;
 import io.sandpipers.cdk.core.construct.sns.Topic.TopicProps;
 import io.sandpipers.cdk.core.construct.sqs.Queue;
 import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder.Default;
@@ -39,11 +40,17 @@ import software.amazon.awscdk.services.codeguruprofiler.IProfilingGroup;
 import software.amazon.awscdk.services.ec2.ISecurityGroup;
 import software.amazon.awscdk.services.ec2.IVpc;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.events.Rule;
+import software.amazon.awscdk.services.events.RuleTargetInput;
+import software.amazon.awscdk.services.events.Schedule;
+import software.amazon.awscdk.services.events.targets.LambdaFunction;
 import software.amazon.awscdk.services.iam.IRole;
 import software.amazon.awscdk.services.iam.PolicyStatement;
 import software.amazon.awscdk.services.kms.IKey;
 import software.amazon.awscdk.services.lambda.AdotInstrumentationConfig;
+import software.amazon.awscdk.services.lambda.Alias;
 import software.amazon.awscdk.services.lambda.Architecture;
+import software.amazon.awscdk.services.lambda.AutoScalingOptions;
 import software.amazon.awscdk.services.lambda.Code;
 import software.amazon.awscdk.services.lambda.FileSystem;
 import software.amazon.awscdk.services.lambda.Function;
@@ -59,6 +66,7 @@ import software.amazon.awscdk.services.lambda.Runtime;
 import software.amazon.awscdk.services.lambda.RuntimeManagementMode;
 import software.amazon.awscdk.services.lambda.SnapStartConf;
 import software.amazon.awscdk.services.lambda.Tracing;
+import software.amazon.awscdk.services.lambda.UtilizationScalingOptions;
 import software.amazon.awscdk.services.lambda.VersionOptions;
 import software.amazon.awscdk.services.logs.ILogGroup;
 import software.amazon.awscdk.services.logs.RetentionDays;
@@ -72,13 +80,30 @@ import software.constructs.Construct;
 @Getter
 public class AbstractCustomRuntimeFunction<T extends AbstractCustomRuntimeFunctionProps> extends Construct implements BaseConstruct {
 
+  public static final String LIVE_ALIAS_NAME = "live";
+
+  /**
+   * Value of <code>source</code> in the events sent by the warm-up schedule. Handlers must check it first and return immediately, without
+   * running any business logic, when <code>source</code> equals this value.
+   */
+  public static final String WARM_UP_EVENT_SOURCE = "sandpipers.warm-up";
+
   private static final int FUNCTION_DEFAULT_TIMEOUT_IN_SECONDS = 10;
   private static final int FUNCTION_DEFAULT_MEMORY_SIZE = 512;
   private static final int FUNCTION_DEFAULT_RETRY_ATTEMPTS = 2;
   private static final int FUNCTION_DEFAULT_MAX_EVENT_AGE = 60;
+  private static final double FUNCTION_DEFAULT_PROVISIONED_CONCURRENCY_UTILIZATION_TARGET = 0.7;
+  private static final int FUNCTION_DEFAULT_WARM_UP_CONCURRENCY = 1;
+  private static final int MAX_WARM_UP_CONCURRENCY = 100;
+  private static final int WARM_UP_TARGETS_PER_RULE = 5;
 
   private final Function function;
 
+  /**
+   * The <code>live</code> alias carrying the provisioned concurrency, or {@code null} when {@code provisionedConcurrentExecutions} is not set.
+   */
+  private final Alias alias;
+
   /**
    * @param scope This parameter is required.
    * @param id    This parameter is required.
@@ -89,6 +114,15 @@ public class AbstractCustomRuntimeFunction<T extends AbstractCustomRuntimeFuncti
       @NotNull final T props) {
     super(scope, id.getValue());
 
+    final int warmUpConcurrency = props.getWarmUpConcurrency().intValue();
+    if (warmUpConcurrency < 1 || warmUpConcurrency > MAX_WARM_UP_CONCURRENCY) {
+      throw new IllegalArgumentException("'warmUpConcurrency' must be between 1 and %d (inclusive)".formatted(MAX_WARM_UP_CONCURRENCY));
+    }
+
+    if (props.getWarmUpInterval() != null && props.getProvisionedConcurrentExecutions() != null) {
+      throw new IllegalArgumentException("'warmUpInterval' must not be set together with 'provisionedConcurrentExecutions'");
+    }
+
     final Function.Builder builder = Function.Builder.create(this, id.getValue())
         .runtime(props.getRuntime())
         .description(props.getDescription())
@@ -98,11 +132,39 @@ public class AbstractCustomRuntimeFunction<T extends AbstractCustomRuntimeFuncti
         .memorySize(props.getMemorySize())
         .retryAttempts(props.getRetryAttempts())
         .maxEventAge(props.getMaxEventAge())
-        .retryAttempts(props.getRetryAttempts())
         .role(props.getRole())
         .vpc(props.getVpc())
+        .vpcSubnets(props.getVpcSubnets())
+        .securityGroups(props.getSecurityGroups())
+        .allowAllOutbound(props.getAllowAllOutbound())
+        .allowPublicSubnet(props.getAllowPublicSubnet())
         .initialPolicy(props.getInitialPolicies())
-        .environment(props.getEnvironment());
+        .environment(props.getEnvironment())
+        .environmentEncryption(props.getEnvironmentEncryption())
+        .architecture(props.getArchitecture())
+        .snapStart(props.getSnapStart())
+        .reservedConcurrentExecutions(props.getReservedConcurrentExecutions())
+        .ephemeralStorageSize(props.getEphemeralStorageSize())
+        .layers(props.getLayers())
+        .tracing(props.getTracing())
+        .insightsVersion(props.getInsightsVersion())
+        .adotInstrumentation(props.getAdotInstrumentation())
+        .paramsAndSecrets(props.getParamsAndSecrets())
+        .profiling(props.getProfiling())
+        .profilingGroup(props.getProfilingGroup())
+        .codeSigningConfig(props.getCodeSigningConfig())
+        .currentVersionOptions(props.getCurrentVersionOptions())
+        .runtimeManagementMode(props.getRuntimeManagementMode())
+        .events(props.getEvents())
+        .filesystem(props.getFilesystem())
+        .logGroup(props.getLogGroup())
+        .logRetention(props.getLogRetention())
+        .logRetentionRetryOptions(props.getLogRetentionRetryOptions())
+        .logRetentionRole(props.getLogRetentionRole())
+        .logFormat(props.getLogFormat())
+        .loggingFormat(props.getLoggingFormat())
+        .applicationLogLevel(props.getApplicationLogLevel())
+        .systemLogLevel(props.getSystemLogLevel());
 
     if (BooleanUtils.isTrue(props.getDeadLetterTopicEnabled())) {
       final TopicProps topicProps = TopicProps.builder().build();
@@ -125,6 +187,69 @@ public class AbstractCustomRuntimeFunction<T extends AbstractCustomRuntimeFuncti
     function = builder
         .build();
 
+    alias = props.getProvisionedConcurrentExecutions() == null ? null : createLiveAlias(props);
+
+    if (props.getWarmUpInterval() != null) {
+      createWarmUpRules(props);
+    }
+  }
+
+  /**
+   * Invokes the function every {@code warmUpInterval} with {@code warmUpConcurrency} asynchronous invocations. A rule holds at most five
+   * targets, so one rule is created per five invocations. Each event carries {@link #WARM_UP_EVENT_SOURCE} as its <code>source</code>, the
+   * total <code>concurrency</code> and the <code>index</code> of the invocation.
+   */
+  private void createWarmUpRules(final T props) {
+    final int concurrency = props.getWarmUpConcurrency().intValue();
+
+    for (int ruleIndex = 0; ruleIndex * WARM_UP_TARGETS_PER_RULE < concurrency; ruleIndex++) {
+      final Rule rule = Rule.Builder.create(this, "WarmUpRule" + ruleIndex)
+          .description("Keeps %s warm".formatted(getNode().getPath()))
+          .schedule(Schedule.rate(props.getWarmUpInterval()))
+          .build();
+
+      final int lastIndex = Math.min(concurrency, (ruleIndex + 1) * WARM_UP_TARGETS_PER_RULE);
+
+      for (int index = ruleIndex * WARM_UP_TARGETS_PER_RULE; index < lastIndex; index++) {
+        final Map<String, Object> warmUpEvent = new LinkedHashMap<>();
+        warmUpEvent.put("source", WARM_UP_EVENT_SOURCE);
+        warmUpEvent.put("concurrency", concurrency);
+        warmUpEvent.put("index", index);
+
+        rule.addTarget(LambdaFunction.Builder.create(function)
+            .event(RuleTargetInput.fromObject(warmUpEvent))
+            .retryAttempts(0)
+            .build());
+      }
+    }
+  }
+
+  /**
+   * Publishes the current version behind a <code>live</code> alias with provisioned concurrency. When {@code maxProvisionedConcurrentExecutions}
+   * is set, the provisioned concurrency is scaled between the two on <code>ProvisionedConcurrencyUtilization</code>.
+   */
+  private Alias createLiveAlias(final T props) {
+    final Alias liveAlias = Alias.Builder.create(this, "LiveAlias")
+        .aliasName(LIVE_ALIAS_NAME)
+        .version(function.getCurrentVersion())
+        .provisionedConcurrentExecutions(props.getProvisionedConcurrentExecutions())
+        .build();
+
+    if (props.getMaxProvisionedConcurrentExecutions() != null) {
+      final AutoScalingOptions autoScalingOptions = AutoScalingOptions.builder()
+          .minCapacity(props.getProvisionedConcurrentExecutions())
+          .maxCapacity(props.getMaxProvisionedConcurrentExecutions())
+          .build();
+
+      final UtilizationScalingOptions utilizationScalingOptions = UtilizationScalingOptions.builder()
+          .utilizationTarget(props.getProvisionedConcurrencyUtilizationTarget())
+          .build();
+
+      liveAlias.addAutoScaling(autoScalingOptions)
+          .scaleOnUtilization(utilizationScalingOptions);
+    }
+
+    return liveAlias;
   }
 
   @Getter
@@ -189,6 +314,40 @@ public class AbstractCustomRuntimeFunction<T extends AbstractCustomRuntimeFuncti
     @Singular
     private List<PolicyStatement> initialPolicies;
 
+    /**
+     * Provisioned concurrency of the <code>live</code> alias. The alias is only created when this is set.
+     */
+    @Nullable
+    private Number provisionedConcurrentExecutions;
+
+    /**
+     * Upper bound for auto-scaling the provisioned concurrency of the <code>live</code> alias. Auto-scaling is only configured when this is set.
+     */
+    @Nullable
+    private Number maxProvisionedConcurrentExecutions;
+
+    /**
+     * Target <code>ProvisionedConcurrencyUtilization</code> between 0 and 1 when auto-scaling the provisioned concurrency.
+     */
+    @Default
+    private Number provisionedConcurrencyUtilizationTarget = FUNCTION_DEFAULT_PROVISIONED_CONCURRENCY_UTILIZATION_TARGET;
+
+    /**
+     * How often the warm-up schedule invokes the function. The schedule is only created when this is set. It cannot be combined with
+     * {@code provisionedConcurrentExecutions}, which already keeps execution environments initialized for the <code>live</code> alias.
+     * Handlers must return immediately on events whose <code>source</code> is {@link #WARM_UP_EVENT_SOURCE}.
+     */
+    @Nullable
+    private Duration warmUpInterval;
+
+    /**
+     * Asynchronous invocations the warm-up schedule sends per interval. The invocations are not guaranteed to run concurrently, so this is an
+     * upper bound on the execution environments kept warm rather than an exact count.
+     */
+    @Default
+    @Range(from = 1, to = 100)
+    private Number warmUpConcurrency = FUNCTION_DEFAULT_WARM_UP_CONCURRENCY;
+
     @Nullable
     private AdotInstrumentationConfig adotInstrumentation;
 
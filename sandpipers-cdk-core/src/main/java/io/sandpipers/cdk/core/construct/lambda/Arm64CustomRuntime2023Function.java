@@ -0,0 +1,95 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.lambda;
+
+import static software.amazon.awscdk.services.lambda.Architecture.ARM_64;
+import static software.amazon.awscdk.services.lambda.Architecture.X86_64;
+
+import io.sandpipers.cdk.core.construct.lambda.Arm64CustomRuntime2023Function.Arm64CustomRuntime2023FunctionProps;
+import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function.CustomRuntime2023FunctionProps;
+import io.sadpipers.cdk.type.SafeString;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.lambda.Architecture;
+import software.amazon.awscdk.services.lambda.Code;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct representing AWS::Lambda::Function on the <code>provided.al2023</code> runtime, running on Graviton (<code>arm64</code>) unless another
+ * architecture is given.
+ * <p>
+ * Native binaries are built per architecture, so the props accept one {@link Code} per {@link Architecture} next to the required {@code code}. The
+ * code matching the function's architecture is selected at synth time, falling back to {@code code} when there is no entry for it, e.g.
+ * </p>
+ * <pre>
+ *   Arm64CustomRuntime2023FunctionProps.builder()
+ *       .code(Code.fromAsset("target/function-x86_64.zip"))
+ *       .code(Architecture.ARM_64, Code.fromAsset("target/function-aarch64.zip"))
+ *       ...
+ * </pre>
+ */
+@Getter
+public class Arm64CustomRuntime2023Function<T extends Arm64CustomRuntime2023FunctionProps> extends CustomRuntime2023Function<T> {
+
+  /**
+   * @param scope This parameter is required.
+   * @param id    This parameter is required.
+   * @param props This parameter is required.
+   */
+  public Arm64CustomRuntime2023Function(@NotNull final Construct scope,
+      @NotNull final SafeString id,
+      @NotNull final T props) {
+    super(scope, id, props);
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class Arm64CustomRuntime2023FunctionProps extends CustomRuntime2023FunctionProps {
+
+    @Nullable
+    @Singular
+    private final Map<Architecture, Code> codes;
+
+    /**
+     * @return a builder whose <code>architecture</code> defaults to {@link Architecture#ARM_64}
+     */
+    public static Arm64CustomRuntime2023FunctionPropsBuilder<?, ?> builder() {
+      return new Arm64CustomRuntime2023FunctionPropsBuilderImpl().architecture(ARM_64);
+    }
+
+    /**
+     * @return the code built for {@link #getArchitecture()}, or the code given with {@code code(Code)} when there is none. An architecture explicitly
+     * set to <code>null</code> means the Lambda default, {@link Architecture#X86_64}.
+     */
+    @Override
+    public Code getCode() {
+      final Architecture architecture = Objects.requireNonNullElse(getArchitecture(), X86_64);
+
+      return codes.entrySet().stream()
+          .filter(entry -> entry.getKey().getName().equals(architecture.getName()))
+          .map(Map.Entry::getValue)
+          .findFirst()
+          .orElseGet(super::getCode);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.lambda;
+
+import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sandpipers.cdk.core.construct.lambda.QueueEventSourceMapping.QueueEventSourceMappingProps;
+import io.sandpipers.cdk.core.construct.sqs.AbstractQueue;
+import io.sadpipers.cdk.type.SafeString;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.lambda.EventSourceMapping;
+import software.amazon.awscdk.services.lambda.IFunction;
+import software.amazon.awscdk.services.sqs.CfnQueue;
+import software.amazon.awscdk.services.sqs.IQueue;
+import software.constructs.Construct;
+import software.constructs.IConstruct;
+
+/**
+ * L3 Construct representing AWS::Lambda::EventSourceMapping from an {@link AbstractQueue} to an {@link AbstractCustomRuntimeFunction}, or to its
+ * <code>live</code> alias when the function has provisioned concurrency.
+ * <p>
+ * Unless {@code visibilityTimeout} is given, the visibility timeout of the queue is raised to six times the function timeout plus the batching
+ * window, as recommended for Lambda consumers, so that messages are not redelivered while a batch is still being processed.
+ * </p>
+ */
+@Getter
+public class QueueEventSourceMapping<T extends QueueEventSourceMappingProps> extends Construct implements BaseConstruct {
+
+  private static final int FIFO_MAX_BATCH_SIZE = 10;
+  private static final int MAX_BATCH_SIZE_WITHOUT_BATCHING_WINDOW = 10;
+  private static final int MAX_BATCH_SIZE = 10_000;
+  private static final int MAX_BATCHING_WINDOW_IN_SECONDS = 300;
+  private static final int MIN_MAX_CONCURRENCY = 2;
+  private static final int MAX_MAX_CONCURRENCY = 1000;
+  private static final int VISIBILITY_TIMEOUT_TO_FUNCTION_TIMEOUT_RATIO = 6;
+  private static final int MAX_VISIBILITY_TIMEOUT_IN_SECONDS = 43_200;
+  private static final int DEFAULT_BATCH_SIZE = 10;
+  private static final int DEFAULT_FUNCTION_TIMEOUT_IN_SECONDS = 3;
+
+  private final EventSourceMapping eventSourceMapping;
+
+  /**
+   * @param scope This parameter is required.
+   * @param id    This parameter is required.
+   * @param props This parameter is required.
+   */
+  public QueueEventSourceMapping(@NotNull final Construct scope,
+      @NotNull final SafeString id,
+      @NotNull final T props) {
+    super(scope, id.getValue());
+
+    final IQueue queue = props.getQueue().getQueue();
+    final IFunction target = props.getFunction().getAlias() == null ? props.getFunction().getFunction() : props.getFunction().getAlias();
+
+    validate(props, queue);
+
+    configureVisibilityTimeout(props, queue);
+
+    eventSourceMapping = EventSourceMapping.Builder.create(this, id.getValue())
+        .target(target)
+        .eventSourceArn(queue.getQueueArn())
+        .batchSize(props.getBatchSize())
+        .maxBatchingWindow(props.getMaxBatchingWindow())
+        .maxConcurrency(props.getMaxConcurrency())
+        .reportBatchItemFailures(props.getReportBatchItemFailures())
+        .enabled(props.getEnabled())
+        .build();
+
+    queue.grantConsumeMessages(target);
+  }
+
+  private void validate(final T props, final IQueue queue) {
+    final int batchSize = props.getBatchSize().intValue();
+    final Duration maxBatchingWindow = props.getMaxBatchingWindow();
+
+    if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("'batchSize' must be between 1 and %d (inclusive)".formatted(MAX_BATCH_SIZE));
+    }
+
+    if (queue.getFifo() && batchSize > FIFO_MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("'batchSize' must be between 1 and %d (inclusive) for FIFO queues".formatted(FIFO_MAX_BATCH_SIZE));
+    }
+
+    if (queue.getFifo() && maxBatchingWindow != null) {
+      throw new IllegalArgumentException("'maxBatchingWindow' is not supported for FIFO queues");
+    }
+
+    if (batchSize > MAX_BATCH_SIZE_WITHOUT_BATCHING_WINDOW && (maxBatchingWindow == null || maxBatchingWindow.toMilliseconds().intValue() < 1000)) {
+      throw new IllegalArgumentException("'maxBatchingWindow' of at least 1 second is required when 'batchSize' is larger than %d"
+          .formatted(MAX_BATCH_SIZE_WITHOUT_BATCHING_WINDOW));
+    }
+
+    if (maxBatchingWindow != null && maxBatchingWindow.toSeconds().intValue() > MAX_BATCHING_WINDOW_IN_SECONDS) {
+      throw new IllegalArgumentException("'maxBatchingWindow' must be at most %d seconds".formatted(MAX_BATCHING_WINDOW_IN_SECONDS));
+    }
+
+    final Number maxConcurrency = props.getMaxConcurrency();
+    if (maxConcurrency != null && (maxConcurrency.intValue() < MIN_MAX_CONCURRENCY || maxConcurrency.intValue() > MAX_MAX_CONCURRENCY)) {
+      throw new IllegalArgumentException("'maxConcurrency' must be between %d and %d (inclusive)".formatted(MIN_MAX_CONCURRENCY, MAX_MAX_CONCURRENCY));
+    }
+  }
+
+  /**
+   * Sets the visibility timeout of the queue to {@code visibilityTimeout}, or raises it to the derived minimum when it is lower. Imported queues are
+   * left unchanged.
+   */
+  private void configureVisibilityTimeout(final T props, final IQueue queue) {
+    final IConstruct defaultChild = queue.getNode().getDefaultChild();
+
+    if (!(defaultChild instanceof final CfnQueue cfnQueue)) {
+      return;
+    }
+
+    final int functionTimeoutInSeconds = getFunctionTimeoutInSeconds(props);
+
+    if (props.getVisibilityTimeout() != null) {
+      final int visibilityTimeoutInSeconds = props.getVisibilityTimeout().toSeconds().intValue();
+
+      if (visibilityTimeoutInSeconds < functionTimeoutInSeconds) {
+        throw new IllegalArgumentException("'visibilityTimeout' must be at least the function timeout of %d seconds".formatted(functionTimeoutInSeconds));
+      }
+
+      cfnQueue.setVisibilityTimeout(visibilityTimeoutInSeconds);
+      return;
+    }
+
+    final int batchingWindowInSeconds = props.getMaxBatchingWindow() == null ? 0 : props.getMaxBatchingWindow().toSeconds().intValue();
+    final int derivedVisibilityTimeoutInSeconds = Math.min(MAX_VISIBILITY_TIMEOUT_IN_SECONDS,
+        functionTimeoutInSeconds * VISIBILITY_TIMEOUT_TO_FUNCTION_TIMEOUT_RATIO + batchingWindowInSeconds);
+
+    final Number currentVisibilityTimeout = cfnQueue.getVisibilityTimeout();
+    if (currentVisibilityTimeout == null || currentVisibilityTimeout.intValue() < derivedVisibilityTimeoutInSeconds) {
+      cfnQueue.setVisibilityTimeout(derivedVisibilityTimeoutInSeconds);
+    }
+  }
+
+  private static int getFunctionTimeoutInSeconds(final QueueEventSourceMappingProps props) {
+    final Duration timeout = props.getFunction().getFunction().getTimeout();
+
+    return timeout == null ? DEFAULT_FUNCTION_TIMEOUT_IN_SECONDS : timeout.toSeconds().intValue();
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class QueueEventSourceMappingProps {
+
+    @NotNull
+    private final AbstractQueue<?> queue;
+
+    @NotNull
+    private final AbstractCustomRuntimeFunction<?> function;
+
+    @Default
+    @Range(from = 1, to = MAX_BATCH_SIZE)
+    private final Number batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Required, and at least one second, when {@code batchSize} is larger than 10. Not supported for FIFO queues.
+     */
+    @Nullable
+    private final Duration maxBatchingWindow;
+
+    @Nullable
+    @Range(from = MIN_MAX_CONCURRENCY, to = MAX_MAX_CONCURRENCY)
+    private final Number maxConcurrency;
+
+    @Default
+    @NotNull
+    private final Boolean reportBatchItemFailures = true;
+
+    @Default
+    @NotNull
+    private final Boolean enabled = true;
+
+    /**
+     * Visibility timeout of the queue. Defaults to six times the function timeout plus {@code maxBatchingWindow}.
+     */
+    @Nullable
+    private final Duration visibilityTimeout;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sns;
+
+import io.sandpipers.cdk.core.construct.BaseConstruct;
+import io.sandpipers.cdk.core.construct.sns.FanOut.FanOutProps;
+import io.sandpipers.cdk.core.construct.sqs.AbstractQueue;
+import io.sandpipers.cdk.core.construct.sqs.FifoQueue;
+import io.sandpipers.cdk.core.construct.sqs.FifoQueue.FifoQueueProps;
+import io.sandpipers.cdk.core.construct.sqs.Queue;
+import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
+import io.sadpipers.cdk.type.SafeString;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.sns.ITopic;
+import software.amazon.awscdk.services.sns.Subscription;
+import software.amazon.awscdk.services.sns.subscriptions.SqsSubscription;
+import software.amazon.awscdk.services.sqs.IQueue;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct fanning an {@link AbstractTopic} out to {@link AbstractQueue}s. Every queue is subscribed with raw message delivery and an optional
+ * {@link SubscriptionFilterPolicy} on either the message attributes or the message body, gets a queue policy allowing <code>sns.amazonaws.com</code>
+ * to send messages only when <code>aws:SourceArn</code> is the topic, and gets a dead-letter queue for messages SNS fails to deliver to it.
+ */
+@Getter
+public class FanOut<T extends FanOutProps> extends Construct implements BaseConstruct {
+
+  private final List<Subscription> subscriptions = new ArrayList<>();
+
+  public FanOut(@NotNull final Construct scope,
+      @NotNull final SafeString id,
+      @NotNull final T props) {
+    super(scope, id.getValue());
+
+    final ITopic topic = props.getTopic().getTopic();
+
+    for (final FanOutTarget target : props.getTargets()) {
+      final IQueue queue = target.getQueue().getQueue();
+
+      if (topic.getFifo() && !queue.getFifo()) {
+        throw new IllegalArgumentException("queue '%s' must be a FIFO queue to subscribe to a FIFO topic".formatted(target.getQueue().getNode().getId()));
+      }
+
+      final SqsSubscription.Builder sqsSubscription = SqsSubscription.Builder.create(queue)
+          .rawMessageDelivery(target.getRawMessageDelivery())
+          .deadLetterQueue(createSubscriptionDeadLetterQueue(target, topic.getFifo()));
+
+      final SubscriptionFilterPolicy filterPolicy = target.getFilterPolicy();
+      if (filterPolicy != null && filterPolicy.getScope() == FilterPolicyScope.MESSAGE_BODY) {
+        sqsSubscription.filterPolicyWithMessageBody(filterPolicy.toMessageBodyFilterPolicy());
+      } else if (filterPolicy != null) {
+        sqsSubscription.filterPolicy(filterPolicy.toFilterPolicy());
+      }
+
+      subscriptions.add(topic.addSubscription(sqsSubscription.build()));
+    }
+  }
+
+  private IQueue createSubscriptionDeadLetterQueue(final FanOutTarget target, final boolean fifo) {
+    final SafeString deadLetterQueueId = SafeString.of(target.getQueue().getNode().getId() + "SubscriptionDeadLetterQueue");
+
+    if (fifo) {
+      final FifoQueueProps fifoQueueProps = FifoQueueProps.builder()
+          .requireDeadLetterQueue(false)
+          .build();
+
+      return new FifoQueue<>(this, deadLetterQueueId, fifoQueueProps).getQueue();
+    }
+
+    final QueueProps queueProps = QueueProps.builder()
+        .requireDeadLetterQueue(false)
+        .build();
+
+    return new Queue<>(this, deadLetterQueueId, queueProps).getQueue();
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class FanOutProps {
+
+    @NotNull
+    private final AbstractTopic<?> topic;
+
+    @Singular
+    private final List<FanOutTarget> targets;
+  }
+
+  @Getter
+  @SuperBuilder
+  public static class FanOutTarget {
+
+    @NotNull
+    private final AbstractQueue<?> queue;
+
+    @Nullable
+    private final SubscriptionFilterPolicy filterPolicy;
+
+    @Default
+    @NotNull
+    private final Boolean rawMessageDelivery = true;
+  }
+}
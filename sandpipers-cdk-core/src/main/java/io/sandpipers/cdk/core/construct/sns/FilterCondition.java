@@ -0,0 +1,152 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sns;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.services.sns.BetweenCondition;
+import software.amazon.awscdk.services.sns.NumericConditions;
+import software.amazon.awscdk.services.sns.StringConditions;
+import software.amazon.awscdk.services.sns.SubscriptionFilter;
+
+/**
+ * A single typed condition of a {@link SubscriptionFilterPolicy}. Besides the generated {@link SubscriptionFilter} it keeps the number of values the
+ * condition adds to the filter policy, which SNS uses to compute the combination limit.
+ */
+@Getter
+public final class FilterCondition {
+
+  private final SubscriptionFilter subscriptionFilter;
+
+  private final int values;
+
+  private FilterCondition(final SubscriptionFilter subscriptionFilter, final int values) {
+    this.subscriptionFilter = subscriptionFilter;
+    this.values = values;
+  }
+
+  /**
+   * Matches when the attribute equals any of the given values.
+   */
+  public static FilterCondition anyOf(@NotNull final String... values) {
+    final List<String> allowlist = requireValues("anyOf", values);
+
+    return new FilterCondition(SubscriptionFilter.stringFilter(StringConditions.builder()
+        .allowlist(allowlist)
+        .build()), allowlist.size());
+  }
+
+  /**
+   * Matches when the attribute equals any of the given numbers.
+   */
+  public static FilterCondition anyOf(@NotNull final Number... values) {
+    final List<Number> allowlist = requireValues("anyOf", values);
+
+    return new FilterCondition(SubscriptionFilter.numericFilter(NumericConditions.builder()
+        .allowlist(allowlist)
+        .build()), allowlist.size());
+  }
+
+  /**
+   * Matches when the attribute starts with any of the given prefixes.
+   */
+  public static FilterCondition prefix(@NotNull final String... prefixes) {
+    final List<String> matchPrefixes = requireValues("prefix", prefixes);
+
+    return new FilterCondition(SubscriptionFilter.stringFilter(StringConditions.builder()
+        .matchPrefixes(matchPrefixes)
+        .build()), matchPrefixes.size());
+  }
+
+  /**
+   * Matches when the attribute is present and equals none of the given values.
+   */
+  public static FilterCondition anythingBut(@NotNull final String... values) {
+    final List<String> denylist = requireValues("anythingBut", values);
+
+    return new FilterCondition(SubscriptionFilter.stringFilter(StringConditions.builder()
+        .denylist(denylist)
+        .build()), 1);
+  }
+
+  /**
+   * Matches when the attribute is a number within <code>start</code> and <code>stop</code> (inclusive).
+   */
+  public static FilterCondition between(@NotNull final Number start, @NotNull final Number stop) {
+    if (start.doubleValue() >= stop.doubleValue()) {
+      throw new IllegalArgumentException("'start' must be less than 'stop' but was %s and %s".formatted(start, stop));
+    }
+
+    return new FilterCondition(SubscriptionFilter.numericFilter(NumericConditions.builder()
+        .between(BetweenCondition.builder()
+            .start(start)
+            .stop(stop)
+            .build())
+        .build()), 1);
+  }
+
+  public static FilterCondition greaterThan(@NotNull final Number value) {
+    return new FilterCondition(SubscriptionFilter.numericFilter(NumericConditions.builder()
+        .greaterThan(value)
+        .build()), 1);
+  }
+
+  public static FilterCondition greaterThanOrEqualTo(@NotNull final Number value) {
+    return new FilterCondition(SubscriptionFilter.numericFilter(NumericConditions.builder()
+        .greaterThanOrEqualTo(value)
+        .build()), 1);
+  }
+
+  public static FilterCondition lessThan(@NotNull final Number value) {
+    return new FilterCondition(SubscriptionFilter.numericFilter(NumericConditions.builder()
+        .lessThan(value)
+        .build()), 1);
+  }
+
+  public static FilterCondition lessThanOrEqualTo(@NotNull final Number value) {
+    return new FilterCondition(SubscriptionFilter.numericFilter(NumericConditions.builder()
+        .lessThanOrEqualTo(value)
+        .build()), 1);
+  }
+
+  /**
+   * Matches when the attribute is present, whatever its value.
+   */
+  public static FilterCondition exists() {
+    return new FilterCondition(SubscriptionFilter.existsFilter(), 1);
+  }
+
+  /**
+   * Matches when the attribute is absent.
+   */
+  public static FilterCondition notExists() {
+    return new FilterCondition(new SubscriptionFilter(List.of(Map.of("exists", false))), 1);
+  }
+
+  @SafeVarargs
+  private static <V> List<V> requireValues(final String condition, final V... values) {
+    if (values == null || values.length == 0) {
+      throw new IllegalArgumentException("'%s' requires at least one value".formatted(condition));
+    }
+
+    return Arrays.asList(values);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sns;
+
+import io.sandpipers.cdk.core.construct.sns.HighThroughputFifoTopic.HighThroughputFifoTopicProps;
+import io.sadpipers.cdk.type.SafeString;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.services.sns.CfnTopic;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct representing AWS::SNS::Topic (FIFO) in high throughput mode, i.e. with <code>FifoThroughputScope</code> set to
+ * <code>MessageGroup</code> so that the throughput quota applies per message group instead of per topic.
+ */
+@Getter
+public class HighThroughputFifoTopic<T extends HighThroughputFifoTopicProps> extends FifoTopic<T> {
+
+  public static final String MESSAGE_GROUP_FIFO_THROUGHPUT_SCOPE = "MessageGroup";
+
+  public HighThroughputFifoTopic(@NotNull final Construct scope,
+      @NotNull final SafeString id,
+      @NotNull final T props) {
+    super(scope, id, props);
+
+    // FifoThroughputScope is not modelled by CfnTopic in this CDK version
+    final CfnTopic cfnTopic = (CfnTopic) getTopic().getNode().getDefaultChild();
+    cfnTopic.addPropertyOverride("FifoThroughputScope", MESSAGE_GROUP_FIFO_THROUGHPUT_SCOPE);
+  }
+
+  @SuperBuilder
+  public static class HighThroughputFifoTopicProps extends FifoTopicProps {
+
+  }
+}
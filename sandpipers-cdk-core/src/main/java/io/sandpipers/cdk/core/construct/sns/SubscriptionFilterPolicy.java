@@ -0,0 +1,189 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sns;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.services.sns.FilterOrPolicy;
+import software.amazon.awscdk.services.sns.SubscriptionFilter;
+
+/**
+ * Typed SNS subscription filter policy. Policies are validated when built, so a policy SNS would reject fails the synth instead of the deployment:
+ * <ul>
+ *   <li>at most {@value #MAX_ATTRIBUTE_NAMES} attribute names, counting the leaves of nested policies</li>
+ *   <li>at most {@value #MAX_COMBINATIONS} combinations, being the product of the number of values of every attribute</li>
+ *   <li>nested policies only with {@link FilterPolicyScope#MESSAGE_BODY}</li>
+ * </ul>
+ * <pre>{@code
+ * SubscriptionFilterPolicy.messageBody()
+ *     .attribute("eventType", FilterCondition.anyOf("ORDER_PLACED"))
+ *     .attribute("order", SubscriptionFilterPolicy.messageBody()
+ *         .attribute("total", FilterCondition.greaterThanOrEqualTo(1000)))
+ *     .build();
+ * }</pre>
+ */
+@Getter
+public final class SubscriptionFilterPolicy {
+
+  public static final int MAX_ATTRIBUTE_NAMES = 5;
+
+  public static final int MAX_COMBINATIONS = 150;
+
+  private final FilterPolicyScope scope;
+
+  private final Map<String, FilterCondition> conditions;
+
+  private final Map<String, SubscriptionFilterPolicy> nestedPolicies;
+
+  private SubscriptionFilterPolicy(final Builder builder) {
+    this.scope = builder.scope;
+    this.conditions = Collections.unmodifiableMap(builder.conditions);
+    this.nestedPolicies = Collections.unmodifiableMap(builder.nestedPolicies);
+  }
+
+  public static Builder messageAttributes() {
+    return new Builder(FilterPolicyScope.MESSAGE_ATTRIBUTES);
+  }
+
+  public static Builder messageBody() {
+    return new Builder(FilterPolicyScope.MESSAGE_BODY);
+  }
+
+  public int getAttributeNames() {
+    return conditions.size() + nestedPolicies.values().stream()
+        .mapToInt(SubscriptionFilterPolicy::getAttributeNames)
+        .sum();
+  }
+
+  /**
+   * @return the product of the number of values of every attribute, saturating at {@link Integer#MAX_VALUE} instead of overflowing
+   */
+  public int getCombinations() {
+    final int combinations = conditions.values().stream()
+        .mapToInt(FilterCondition::getValues)
+        .reduce(1, SubscriptionFilterPolicy::saturatedMultiply);
+
+    return nestedPolicies.values().stream()
+        .mapToInt(SubscriptionFilterPolicy::getCombinations)
+        .reduce(combinations, SubscriptionFilterPolicy::saturatedMultiply);
+  }
+
+  private static int saturatedMultiply(final int left, final int right) {
+    return (int) Math.min((long) left * right, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the policy as expected by <code>filterPolicy</code> of the subscription builders
+   */
+  public Map<String, SubscriptionFilter> toFilterPolicy() {
+    if (scope != FilterPolicyScope.MESSAGE_ATTRIBUTES) {
+      throw new IllegalStateException("only a MESSAGE_ATTRIBUTES policy can be used as 'filterPolicy'");
+    }
+
+    final Map<String, SubscriptionFilter> filterPolicy = new LinkedHashMap<>();
+    conditions.forEach((name, condition) -> filterPolicy.put(name, condition.getSubscriptionFilter()));
+    return filterPolicy;
+  }
+
+  /**
+   * @return the policy as expected by <code>filterPolicyWithMessageBody</code> of the subscription builders
+   */
+  public Map<String, FilterOrPolicy> toMessageBodyFilterPolicy() {
+    if (scope != FilterPolicyScope.MESSAGE_BODY) {
+      throw new IllegalStateException("only a MESSAGE_BODY policy can be used as 'filterPolicyWithMessageBody'");
+    }
+
+    final Map<String, FilterOrPolicy> filterPolicy = new LinkedHashMap<>();
+    conditions.forEach((name, condition) -> filterPolicy.put(name, FilterOrPolicy.filter(condition.getSubscriptionFilter())));
+    nestedPolicies.forEach((name, policy) -> filterPolicy.put(name, FilterOrPolicy.policy(policy.toMessageBodyFilterPolicy())));
+    return filterPolicy;
+  }
+
+  public static final class Builder {
+
+    private final FilterPolicyScope scope;
+
+    private final Map<String, FilterCondition> conditions = new LinkedHashMap<>();
+
+    private final Map<String, SubscriptionFilterPolicy> nestedPolicies = new LinkedHashMap<>();
+
+    private Builder(final FilterPolicyScope scope) {
+      this.scope = scope;
+    }
+
+    public Builder attribute(@NotNull final String name, @NotNull final FilterCondition condition) {
+      requireUniqueName(name);
+      conditions.put(name, condition);
+      return this;
+    }
+
+    public Builder attribute(@NotNull final String name, @NotNull final Builder nestedPolicy) {
+      if (scope != FilterPolicyScope.MESSAGE_BODY || nestedPolicy.scope != FilterPolicyScope.MESSAGE_BODY) {
+        throw new IllegalArgumentException("nested policy '%s' is only supported with MESSAGE_BODY scope".formatted(name));
+      }
+
+      requireUniqueName(name);
+      nestedPolicies.put(name, nestedPolicy.build());
+      return this;
+    }
+
+    public SubscriptionFilterPolicy build() {
+      final SubscriptionFilterPolicy policy = new SubscriptionFilterPolicy(this);
+
+      if (policy.getAttributeNames() == 0) {
+        throw new IllegalArgumentException("filter policy must have at least one attribute");
+      }
+
+      if (policy.getAttributeNames() > MAX_ATTRIBUTE_NAMES) {
+        throw new IllegalArgumentException("filter policy must have at most %d attribute names but has %d: %s"
+            .formatted(MAX_ATTRIBUTE_NAMES, policy.getAttributeNames(), names(policy)));
+      }
+
+      if (policy.getCombinations() > MAX_COMBINATIONS) {
+        throw new IllegalArgumentException("filter policy must have at most %d combinations but has %d: %s"
+            .formatted(MAX_COMBINATIONS, policy.getCombinations(), names(policy)));
+      }
+
+      return policy;
+    }
+
+    private void requireUniqueName(final String name) {
+      if (conditions.containsKey(name) || nestedPolicies.containsKey(name)) {
+        throw new IllegalArgumentException("attribute '%s' is already part of the filter policy".formatted(name));
+      }
+    }
+
+    private static String names(final SubscriptionFilterPolicy policy) {
+      final StringBuilder names = new StringBuilder();
+
+      for (final String name : policy.conditions.keySet()) {
+        names.append(names.isEmpty() ? "" : ", ").append(name);
+      }
+
+      for (final Entry<String, SubscriptionFilterPolicy> nestedPolicy : policy.nestedPolicies.entrySet()) {
+        names.append(names.isEmpty() ? "" : ", ").append(nestedPolicy.getKey()).append('{').append(names(nestedPolicy.getValue())).append('}');
+      }
+
+      return names.toString();
+    }
+  }
+}
@@ -86,6 +86,7 @@ public class AbstractQueue<T extends AbstractQueueProps> extends Construct imple
         .enforceSsl(props.getEnforceSSL())
         .encryption(props.getEncryption())
         .deliveryDelay(props.getDeliveryDelay())
+        .visibilityTimeout(props.getVisibilityTimeout())
         .retentionPeriod(props.getRetentionPeriod());
   }
 
@@ -126,5 +127,8 @@ public class AbstractQueue<T extends AbstractQueueProps> extends Construct imple
     @Default
     @Nullable
     private final Duration retentionPeriod = Duration.days(14);
+
+    @Nullable
+    private final Duration visibilityTimeout;
   }
 }
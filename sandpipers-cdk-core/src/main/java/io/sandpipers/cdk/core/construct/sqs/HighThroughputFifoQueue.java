@@ -0,0 +1,57 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sqs;
+
+import static software.amazon.awscdk.services.sqs.DeduplicationScope.MESSAGE_GROUP;
+import static software.amazon.awscdk.services.sqs.FifoThroughputLimit.PER_MESSAGE_GROUP_ID;
+
+import io.sandpipers.cdk.core.construct.sqs.HighThroughputFifoQueue.HighThroughputFifoQueueProps;
+import io.sadpipers.cdk.type.SafeString;
+import lombok.experimental.SuperBuilder;
+import org.jetbrains.annotations.NotNull;
+import software.constructs.Construct;
+
+/**
+ * L3 Construct representing AWS::SQS::Queue (FIFO) in high throughput mode, i.e. deduplication and throughput limit are both scoped to the message
+ * group. Props contradicting high throughput mode are rejected at synth time instead of silently lowering the throughput to the per-queue limit.
+ */
+public class HighThroughputFifoQueue<T extends HighThroughputFifoQueueProps> extends FifoQueue<T> {
+
+  public HighThroughputFifoQueue(@NotNull final Construct scope,
+      @NotNull final SafeString id,
+      @NotNull final T props) {
+    super(scope, id, requireHighThroughput(props));
+  }
+
+  private static <T extends HighThroughputFifoQueueProps> T requireHighThroughput(final T props) {
+    if (props.getDeduplicationScope() != MESSAGE_GROUP) {
+      throw new IllegalArgumentException("'deduplicationScope' must be MESSAGE_GROUP for high throughput FIFO queues");
+    }
+
+    if (props.getFifoThroughputLimit() != PER_MESSAGE_GROUP_ID) {
+      throw new IllegalArgumentException("'fifoThroughputLimit' must be PER_MESSAGE_GROUP_ID for high throughput FIFO queues");
+    }
+
+    return props;
+  }
+
+  @SuperBuilder
+  public static class HighThroughputFifoQueueProps extends FifoQueueProps {
+
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.apigateway.CachingProfile.MethodCaching;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.apigateway.StageOptions;
+
+class CachingProfileTest {
+
+  @Test
+  void should_keep_stage_options_when_enabling_cache() {
+    final CachingProfile cachingProfile = CachingProfile.builder()
+        .clusterSize("1.6")
+        .build();
+
+    final StageOptions deployOptions = cachingProfile.toDeployOptions(StageOptions.builder()
+        .stageName("Test")
+        .tracingEnabled(true)
+        .build());
+
+    assertThat(deployOptions.getStageName()).isEqualTo("Test");
+    assertThat(deployOptions.getTracingEnabled()).isTrue();
+    assertThat(deployOptions.getCacheClusterEnabled()).isTrue();
+    assertThat(deployOptions.getCacheClusterSize()).isEqualTo("1.6");
+    assertThat(deployOptions.getCachingEnabled()).isTrue();
+  }
+
+  @Test
+  void should_throw_exception_when_cluster_size_is_not_supported() {
+    final CachingProfile cachingProfile = CachingProfile.builder()
+        .clusterSize("2")
+        .build();
+
+    assertThatThrownBy(() -> cachingProfile.toDeployOptions(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("'clusterSize' must be one of");
+  }
+
+  @Test
+  void should_throw_exception_when_ttl_exceeds_one_hour() {
+    final CachingProfile cachingProfile = CachingProfile.builder()
+        .methodOverride("/users/GET", MethodCaching.builder().ttl(Duration.minutes(61)).build())
+        .build();
+
+    assertThatThrownBy(() -> cachingProfile.toDeployOptions(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("ttl of '/users/GET' must be at most 3600 seconds but was 3660");
+  }
+
+  @Test
+  void should_throw_exception_when_method_path_has_no_http_method() {
+    final CachingProfile cachingProfile = CachingProfile.builder()
+        .methodOverride("/users", MethodCaching.builder().build())
+        .build();
+
+    assertThatThrownBy(() -> cachingProfile.toDeployOptions(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("method path '/users' must be a resource path followed by an HTTP method, e.g. '/users/{id}/GET'");
+  }
+
+  @Test
+  void should_throw_exception_when_cache_key_parameter_is_not_a_request_parameter() {
+    final CachingProfile cachingProfile = CachingProfile.builder()
+        .cacheKeyParameter("page")
+        .build();
+
+    assertThatThrownBy(() -> cachingProfile.toDeployOptions(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("cache key parameter 'page' must be a method request querystring, header or path parameter");
+  }
+}
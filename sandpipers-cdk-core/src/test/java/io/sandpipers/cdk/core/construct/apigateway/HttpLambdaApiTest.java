@@ -0,0 +1,57 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.apigateway.HttpLambdaApi.HttpLambdaApiProps;
+import io.sadpipers.cdk.type.SafeString;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.apigateway.DomainNameOptions;
+import software.amazon.awscdk.services.apigateway.EndpointType;
+import software.amazon.awscdk.services.certificatemanager.Certificate;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.lambda.Function;
+import software.amazon.awscdk.services.lambda.Runtime;
+
+class HttpLambdaApiTest {
+
+  @Test
+  void should_throw_exception_when_custom_domain_is_edge_optimised() {
+    final Stack stack = new Stack(new App(), "test-stack");
+
+    final HttpLambdaApiProps props = HttpLambdaApiProps.builder()
+        .handler(Function.Builder.create(stack, "Function")
+            .runtime(Runtime.NODEJS_20_X)
+            .handler("index.handler")
+            .code(Code.fromInline("exports.handler = async () => ({})"))
+            .build())
+        .domainName(DomainNameOptions.builder()
+            .domainName("sandpipers.yeah")
+            .certificate(Certificate.Builder.create(stack, "Certificate").domainName("sandpipers.yeah").build())
+            .endpointType(EndpointType.EDGE)
+            .build())
+        .build();
+
+    assertThatThrownBy(() -> new HttpLambdaApi(stack, SafeString.of("HttpLambdaApi"), props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("HTTP API custom domains must be 'REGIONAL' but was 'EDGE'");
+  }
+}
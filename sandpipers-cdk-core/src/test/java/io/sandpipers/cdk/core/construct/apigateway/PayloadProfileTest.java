@@ -0,0 +1,74 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.Size;
+
+class PayloadProfileTest {
+
+  @Test
+  void should_append_pre_compressed_media_types_to_binary_media_types() {
+    final PayloadProfile payloadProfile = PayloadProfile.builder().build();
+
+    assertThat(payloadProfile.toBinaryMediaTypes(List.of("image/png", "application/gzip")))
+        .containsExactly("image/png", "application/gzip", "application/x-gzip", "application/x-brotli");
+  }
+
+  @Test
+  void should_prefer_min_compression_size_of_api() {
+    final PayloadProfile payloadProfile = PayloadProfile.builder().build();
+
+    assertThat(payloadProfile.toMinCompressionSize(Size.bytes(0)).toBytes())
+        .isEqualTo(0);
+  }
+
+  @Test
+  void should_fall_back_to_min_compression_size_of_profile() {
+    final PayloadProfile payloadProfile = PayloadProfile.builder().build();
+
+    assertThat(payloadProfile.toMinCompressionSize(null).toBytes())
+        .isEqualTo(1024);
+  }
+
+  @Test
+  void should_throw_exception_when_min_compression_size_exceeds_10_mb() {
+    final PayloadProfile payloadProfile = PayloadProfile.builder()
+        .minCompressionSize(Size.mebibytes(11))
+        .build();
+
+    assertThatThrownBy(() -> payloadProfile.toMinCompressionSize(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'minCompressionSize' must be between 0 and 10485760 bytes (inclusive) but was 11534336");
+  }
+
+  @Test
+  void should_throw_exception_when_binary_media_type_is_not_a_media_type() {
+    final PayloadProfile payloadProfile = PayloadProfile.builder()
+        .binaryMediaTypes(List.of("gzip"))
+        .build();
+
+    assertThatThrownBy(() -> payloadProfile.toBinaryMediaTypes(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("binary media type 'gzip' must be a media type, e.g. 'application/gzip'");
+  }
+}
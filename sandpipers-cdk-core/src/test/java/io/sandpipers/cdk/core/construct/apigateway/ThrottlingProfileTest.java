@@ -0,0 +1,105 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apigateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.apigateway.CachingProfile.MethodCaching;
+import io.sandpipers.cdk.core.construct.apigateway.ThrottlingProfile.ClientUsagePlan;
+import io.sandpipers.cdk.core.construct.apigateway.ThrottlingProfile.MethodThrottling;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.apigateway.MethodDeploymentOptions;
+import software.amazon.awscdk.services.apigateway.MethodOptions;
+import software.amazon.awscdk.services.apigateway.StageOptions;
+
+class ThrottlingProfileTest {
+
+  @Test
+  void should_keep_method_caching_when_throttling_method() {
+    final StageOptions cached = CachingProfile.builder()
+        .methodOverride("/users/POST", MethodCaching.builder().enabled(false).build())
+        .build()
+        .toDeployOptions(null);
+
+    final StageOptions deployOptions = ThrottlingProfile.builder()
+        .burstLimit(200)
+        .rateLimit(100.0)
+        .methodOverride("/users/POST", MethodThrottling.builder().burstLimit(20).rateLimit(10.0).build())
+        .build()
+        .toDeployOptions(cached);
+
+    final MethodDeploymentOptions post = deployOptions.getMethodOptions().get("/users/POST");
+
+    assertThat(deployOptions.getCachingEnabled()).isTrue();
+    assertThat(deployOptions.getThrottlingBurstLimit()).isEqualTo(200);
+    assertThat(deployOptions.getThrottlingRateLimit()).isEqualTo(100.0);
+    assertThat(post.getCachingEnabled()).isFalse();
+    assertThat(post.getThrottlingBurstLimit()).isEqualTo(20);
+    assertThat(post.getThrottlingRateLimit()).isEqualTo(10.0);
+  }
+
+  @Test
+  void should_require_api_key_when_there_are_usage_plans() {
+    final ThrottlingProfile throttlingProfile = ThrottlingProfile.builder()
+        .burstLimit(200)
+        .rateLimit(100.0)
+        .usagePlan(ClientUsagePlan.builder().name("Partners").burstLimit(20).rateLimit(10.0).build())
+        .build();
+
+    final MethodOptions defaultMethodOptions = throttlingProfile.toDefaultMethodOptions(MethodOptions.builder()
+        .operationName("users")
+        .build());
+
+    assertThat(defaultMethodOptions.getOperationName()).isEqualTo("users");
+    assertThat(defaultMethodOptions.getApiKeyRequired()).isTrue();
+  }
+
+  @Test
+  void should_throw_exception_when_method_rate_limit_is_negative() {
+    final ThrottlingProfile throttlingProfile = ThrottlingProfile.builder()
+        .burstLimit(200)
+        .rateLimit(100.0)
+        .methodOverride("/users/GET", MethodThrottling.builder().burstLimit(20).rateLimit(-1.0).build())
+        .build();
+
+    assertThatThrownBy(() -> throttlingProfile.toDeployOptions(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'rateLimit' of method '/users/GET' must be at least 0");
+  }
+
+  @Test
+  void should_throw_exception_when_usage_plan_quota_is_zero() {
+    final software.amazon.awscdk.services.apigateway.RestApi restApi = software.amazon.awscdk.services.apigateway.RestApi.Builder
+        .create(new Stack(new App(), "test-stack"), "RestApi")
+        .build();
+    restApi.getRoot().addMethod("GET");
+
+    final ThrottlingProfile throttlingProfile = ThrottlingProfile.builder()
+        .burstLimit(200)
+        .rateLimit(100.0)
+        .usagePlan(ClientUsagePlan.builder().name("Partners").burstLimit(20).rateLimit(10.0).quotaLimit(0).build())
+        .build();
+
+    assertThatThrownBy(() -> throttlingProfile.addUsagePlans(restApi))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'quotaLimit' of usage plan 'Partners' must be at least 1");
+  }
+}
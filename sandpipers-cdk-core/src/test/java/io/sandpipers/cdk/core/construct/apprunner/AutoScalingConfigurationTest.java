@@ -0,0 +1,88 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apprunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.apprunner.AutoScalingConfiguration.AutoScalingConfigurationProps;
+import io.sadpipers.cdk.type.SafeString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.apprunner.CfnAutoScalingConfiguration;
+
+class AutoScalingConfigurationTest {
+
+  private Stack stack;
+
+  @BeforeEach
+  void setUp() {
+    stack = new Stack(new App(), "test-stack");
+  }
+
+  @Test
+  void should_default_unset_properties_to_app_runner_defaults() {
+    final AutoScalingConfigurationProps props = AutoScalingConfigurationProps.builder()
+        .maxConcurrency(20)
+        .build();
+
+    final CfnAutoScalingConfiguration autoScalingConfiguration =
+        new AutoScalingConfiguration<>(stack, SafeString.of("AutoScaling"), props).getAutoScalingConfiguration();
+
+    assertThat(autoScalingConfiguration.getMaxConcurrency()).isEqualTo(20);
+    assertThat(autoScalingConfiguration.getMinSize()).isEqualTo(1);
+    assertThat(autoScalingConfiguration.getMaxSize()).isEqualTo(25);
+  }
+
+  @Test
+  void should_throw_exception_when_max_concurrency_is_out_of_range() {
+    final AutoScalingConfigurationProps props = AutoScalingConfigurationProps.builder()
+        .maxConcurrency(201)
+        .build();
+
+    assertThatThrownBy(() -> new AutoScalingConfiguration<>(stack, SafeString.of("AutoScaling"), props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'maxConcurrency' must be between 1 and 200 (inclusive)");
+  }
+
+  @Test
+  void should_throw_exception_when_min_size_is_greater_than_max_size() {
+    final AutoScalingConfigurationProps props = AutoScalingConfigurationProps.builder()
+        .minSize(5)
+        .maxSize(3)
+        .build();
+
+    assertThatThrownBy(() -> new AutoScalingConfiguration<>(stack, SafeString.of("AutoScaling"), props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'minSize' must not be greater than 'maxSize' but was 5 > 3");
+  }
+
+  @Test
+  void should_keep_app_runner_default_when_no_property_is_set() {
+    assertThat(AutoScalingConfigurationProps.of(null, null, null)).isNull();
+
+    final AutoScalingConfigurationProps props = AutoScalingConfigurationProps.of(null, 2, null);
+
+    assertThat(props).isNotNull();
+    assertThat(props.getMaxConcurrency()).isNull();
+    assertThat(props.getMinSize()).isEqualTo(2);
+    assertThat(props.getMaxSize()).isNull();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.apprunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.sandpipers.cdk.core.construct.apprunner.PublicIngressPublicEgressAppRunnerService.PublicIngressPublicEgressAppRunnerServiceProps;
+import io.sadpipers.cdk.type.AWSEcrImageIdentifier;
+import io.sadpipers.cdk.type.Path;
+import io.sadpipers.cdk.type.SafeString;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+
+class PublicIngressPublicEgressAppRunnerServiceTest {
+
+  private Stack stack;
+  private PublicIngressPublicEgressAppRunnerServiceProps props;
+
+  @BeforeEach
+  void setUp() {
+    stack = new Stack(new App(), "test-stack");
+    props = PublicIngressPublicEgressAppRunnerServiceProps.builder()
+        .awsEcrImageIdentifier(AWSEcrImageIdentifier.of("111111111111.dkr.ecr.ap-southeast-2.amazonaws.com/sandpipers:latest"))
+        .imageRepositoryType(SafeString.of("ECR"))
+        .healthCheckPath(Path.of("/health"))
+        .egressType(SafeString.of("DEFAULT"))
+        .publiclyAccessible(true)
+        .build();
+  }
+
+  @Test
+  void should_create_service_inside_construct() {
+    final PublicIngressPublicEgressAppRunnerService<PublicIngressPublicEgressAppRunnerServiceProps> service =
+        new PublicIngressPublicEgressAppRunnerService<>(stack, SafeString.of("Service"), props);
+
+    assertThat(service.getService().getNode().getScope()).isSameAs(service);
+  }
+
+  @Test
+  void should_default_to_one_vcpu_and_two_gb() {
+    final PublicIngressPublicEgressAppRunnerService<PublicIngressPublicEgressAppRunnerServiceProps> service =
+        new PublicIngressPublicEgressAppRunnerService<>(stack, SafeString.of("Service"), props);
+
+    assertThat(stack.resolve(service.getService().getInstanceConfiguration()))
+        .asInstanceOf(InstanceOfAssertFactories.MAP)
+        .containsEntry("cpu", "1 vCPU")
+        .containsEntry("memory", "2 GB");
+  }
+
+  @Test
+  void should_not_attach_vpc_connector_to_public_egress() {
+    final PublicIngressPublicEgressAppRunnerService<PublicIngressPublicEgressAppRunnerServiceProps> service =
+        new PublicIngressPublicEgressAppRunnerService<>(stack, SafeString.of("Service"), props);
+
+    assertThat(stack.resolve(service.getService().getNetworkConfiguration()))
+        .asInstanceOf(InstanceOfAssertFactories.MAP)
+        .extractingByKey("egressConfiguration", InstanceOfAssertFactories.MAP)
+        .containsEntry("egressType", "DEFAULT")
+        .doesNotContainKey("vpcConnectorArn");
+  }
+
+  @Test
+  void should_not_trace_or_auto_scale_service_by_default() {
+    final PublicIngressPublicEgressAppRunnerService<PublicIngressPublicEgressAppRunnerServiceProps> service =
+        new PublicIngressPublicEgressAppRunnerService<>(stack, SafeString.of("Service"), props);
+
+    assertThat(service.getObservabilityConfiguration()).isNull();
+    assertThat(service.getAutoScalingConfiguration()).isNull();
+    assertThat(service.getService().getObservabilityConfiguration()).isNull();
+    assertThat(service.getService().getAutoScalingConfigurationArn()).isNull();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.dynamodb;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CapacityTest {
+
+  @Test
+  void should_throw_exception_when_max_read_capacity_is_less_than_min() {
+    final Capacity capacity = Capacity.builder()
+        .minReadCapacity(10)
+        .maxReadCapacity(5)
+        .maxWriteCapacity(5)
+        .build();
+
+    assertThatThrownBy(capacity::toBilling)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'maxReadCapacity' must be greater than or equal to 'minReadCapacity'");
+  }
+
+  @Test
+  void should_throw_exception_when_min_write_capacity_is_zero() {
+    final Capacity capacity = Capacity.builder()
+        .maxReadCapacity(5)
+        .minWriteCapacity(0)
+        .maxWriteCapacity(5)
+        .build();
+
+    assertThatThrownBy(capacity::toWriteCapacity)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'minWriteCapacity' must be at least 1");
+  }
+
+  @Test
+  void should_throw_exception_when_target_utilization_is_out_of_range() {
+    final Capacity capacity = Capacity.builder()
+        .maxReadCapacity(5)
+        .maxWriteCapacity(5)
+        .targetUtilizationPercent(95)
+        .build();
+
+    assertThatThrownBy(capacity::toBilling)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'targetUtilizationPercent' must be between 20 and 90 (inclusive)");
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.dynamodb;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.dynamodb.DaxCluster.DaxClusterProps;
+import io.sandpipers.cdk.core.construct.dynamodb.TableV2.TableProps;
+import io.sandpipers.cdk.core.construct.ec2.Vpc;
+import io.sandpipers.cdk.core.construct.ec2.Vpc.VpcProps;
+import io.sadpipers.cdk.type.IPv4Cidr;
+import io.sadpipers.cdk.type.KebabCaseString;
+import io.sadpipers.cdk.type.SafeString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.dynamodb.Attribute;
+import software.amazon.awscdk.services.dynamodb.AttributeType;
+
+class DaxClusterTest {
+
+  private Stack stack;
+  private TableV2 table;
+  private Vpc vpc;
+
+  @BeforeEach
+  void setUp() {
+    stack = new Stack(new App(), "test-stack");
+
+    final TableProps tableProps = TableProps.builder()
+        .tableName(KebabCaseString.of("Lookups"))
+        .partitionKey(Attribute.builder().name("id").type(AttributeType.STRING).build())
+        .build();
+    table = new TableV2(stack, SafeString.of("Table"), tableProps);
+
+    final VpcProps vpcProps = VpcProps.builder()
+        .iPv4Cidr(IPv4Cidr.of("10.0.0.0/16"))
+        .natGateways(1)
+        .build();
+    vpc = new Vpc(stack, SafeString.of("Vpc"), vpcProps);
+  }
+
+  @Test
+  void should_throw_exception_when_replication_factor_is_out_of_range() {
+    final DaxClusterProps props = DaxClusterProps.builder()
+        .table(table)
+        .vpc(vpc.getVpc())
+        .replicationFactor(11)
+        .build();
+
+    assertThatThrownBy(() -> new DaxCluster<>(stack, SafeString.of("DaxCluster"), props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'replicationFactor' must be between 1 and 10 (inclusive)");
+  }
+}
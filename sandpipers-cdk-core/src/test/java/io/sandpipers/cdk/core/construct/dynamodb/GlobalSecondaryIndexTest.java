@@ -0,0 +1,89 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.dynamodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.dynamodb.GlobalSecondaryIndex.AccessPattern;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.services.dynamodb.Attribute;
+import software.amazon.awscdk.services.dynamodb.AttributeType;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexPropsV2;
+import software.amazon.awscdk.services.dynamodb.ProjectionType;
+
+class GlobalSecondaryIndexTest {
+
+  private static final Attribute TABLE_PARTITION_KEY = Attribute.builder().name("id").type(AttributeType.STRING).build();
+
+  private static final Attribute TABLE_SORT_KEY = Attribute.builder().name("version").type(AttributeType.NUMBER).build();
+
+  @Test
+  void should_project_keys_only_when_access_patterns_read_key_attributes() {
+    final GlobalSecondaryIndex index = GlobalSecondaryIndex.builder()
+        .indexName("byOwner")
+        .partitionKey(Attribute.builder().name("owner").type(AttributeType.STRING).build())
+        .accessPattern(AccessPattern.builder()
+            .name("listIdsOfOwner")
+            .attribute("id")
+            .attribute("version")
+            .attribute("owner")
+            .build())
+        .build();
+
+    final GlobalSecondaryIndexPropsV2 props = index.toGlobalSecondaryIndexProps(TABLE_PARTITION_KEY, TABLE_SORT_KEY);
+
+    assertThat(props.getProjectionType()).isEqualTo(ProjectionType.KEYS_ONLY);
+    assertThat(props.getNonKeyAttributes()).isNull();
+  }
+
+  @Test
+  void should_include_union_of_non_key_attributes_read_by_access_patterns() {
+    final GlobalSecondaryIndex index = GlobalSecondaryIndex.builder()
+        .indexName("byOwner")
+        .partitionKey(Attribute.builder().name("owner").type(AttributeType.STRING).build())
+        .accessPattern(AccessPattern.builder()
+            .name("listTitlesOfOwner")
+            .attribute("id")
+            .attribute("title")
+            .build())
+        .accessPattern(AccessPattern.builder()
+            .name("listStatusesOfOwner")
+            .attribute("status")
+            .attribute("title")
+            .build())
+        .build();
+
+    final GlobalSecondaryIndexPropsV2 props = index.toGlobalSecondaryIndexProps(TABLE_PARTITION_KEY, TABLE_SORT_KEY);
+
+    assertThat(props.getProjectionType()).isEqualTo(ProjectionType.INCLUDE);
+    assertThat(props.getNonKeyAttributes()).containsExactly("status", "title");
+  }
+
+  @Test
+  void should_throw_exception_when_index_has_no_access_patterns() {
+    final GlobalSecondaryIndex index = GlobalSecondaryIndex.builder()
+        .indexName("byOwner")
+        .partitionKey(Attribute.builder().name("owner").type(AttributeType.STRING).build())
+        .build();
+
+    assertThatThrownBy(() -> index.toGlobalSecondaryIndexProps(TABLE_PARTITION_KEY, TABLE_SORT_KEY))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("index 'byOwner' must have at least one access pattern");
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.dynamodb;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.dynamodb.GlobalSecondaryIndex.AccessPattern;
+import io.sandpipers.cdk.core.construct.dynamodb.TableV2.TableProps;
+import io.sadpipers.cdk.type.KebabCaseString;
+import io.sadpipers.cdk.type.SafeString;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.dynamodb.Attribute;
+import software.amazon.awscdk.services.dynamodb.AttributeType;
+import software.amazon.awscdk.services.dynamodb.Billing;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexPropsV2;
+import software.amazon.awscdk.services.dynamodb.ProjectionType;
+
+class TableV2Test {
+
+  private Stack stack;
+  private SafeString id;
+
+  @BeforeEach
+  void setUp() {
+    stack = new Stack(new App(), "test-stack");
+    id = SafeString.of("Table");
+  }
+
+  @Test
+  void should_throw_exception_when_time_to_live_attribute_is_partition_key() {
+    final TableProps props = TableProps.builder()
+        .tableName(KebabCaseString.of("Sessions"))
+        .partitionKey(Attribute.builder().name("expiresAt").type(AttributeType.NUMBER).build())
+        .timeToLiveAttribute("expiresAt")
+        .build();
+
+    assertThatThrownBy(() -> new TableV2(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'timeToLiveAttribute' must not be a key attribute but was 'expiresAt'");
+  }
+
+  @Test
+  void should_throw_exception_when_time_to_live_attribute_is_sort_key() {
+    final TableProps props = TableProps.builder()
+        .tableName(KebabCaseString.of("Sessions"))
+        .partitionKey(Attribute.builder().name("id").type(AttributeType.STRING).build())
+        .sortKey(Attribute.builder().name("expiresAt").type(AttributeType.NUMBER).build())
+        .timeToLiveAttribute("expiresAt")
+        .build();
+
+    assertThatThrownBy(() -> new TableV2(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'timeToLiveAttribute' must not be a key attribute but was 'expiresAt'");
+  }
+
+  @Test
+  void should_throw_exception_when_planned_projected_attributes_exceed_budget() {
+    final AccessPattern wideAccessPattern = AccessPattern.builder()
+        .name("readEverything")
+        .attributes(IntStream.rangeClosed(1, 11).mapToObj("attribute%d"::formatted).toList())
+        .build();
+
+    final TableProps props = TableProps.builder()
+        .tableName(KebabCaseString.of("Sessions"))
+        .partitionKey(Attribute.builder().name("id").type(AttributeType.STRING).build())
+        .plannedIndex(GlobalSecondaryIndex.builder()
+            .indexName("byUser")
+            .partitionKey(Attribute.builder().name("user").type(AttributeType.STRING).build())
+            .accessPattern(wideAccessPattern)
+            .build())
+        .plannedIndex(GlobalSecondaryIndex.builder()
+            .indexName("byDevice")
+            .partitionKey(Attribute.builder().name("device").type(AttributeType.STRING).build())
+            .accessPattern(wideAccessPattern)
+            .build())
+        .build();
+
+    assertThatThrownBy(() -> new TableV2(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("planned indexes must project at most 20 non-key attributes in total but project 22");
+  }
+
+  @Test
+  void should_hold_raw_indexes_to_dynamodb_limit_only() {
+    final TableProps props = TableProps.builder()
+        .tableName(KebabCaseString.of("Sessions"))
+        .partitionKey(Attribute.builder().name("id").type(AttributeType.STRING).build())
+        .globalSecondaryIndex(rawIndex("byUser", 50))
+        .build();
+
+    assertThatCode(() -> new TableV2(stack, id, props)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void should_throw_exception_when_projected_attributes_exceed_dynamodb_limit() {
+    final TableProps props = TableProps.builder()
+        .tableName(KebabCaseString.of("Sessions"))
+        .partitionKey(Attribute.builder().name("id").type(AttributeType.STRING).build())
+        .globalSecondaryIndex(rawIndex("byUser", 60))
+        .globalSecondaryIndex(rawIndex("byDevice", 41))
+        .build();
+
+    assertThatThrownBy(() -> new TableV2(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("secondary indexes must project at most 100 non-key attributes in total but project 101");
+  }
+
+  @Test
+  void should_throw_exception_when_billing_and_capacity_are_both_set() {
+    final TableProps props = TableProps.builder()
+        .tableName(KebabCaseString.of("Sessions"))
+        .partitionKey(Attribute.builder().name("id").type(AttributeType.STRING).build())
+        .billing(Billing.onDemand())
+        .capacity(Capacity.builder().maxReadCapacity(10).maxWriteCapacity(10).build())
+        .build();
+
+    assertThatThrownBy(() -> new TableV2(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'billing' and 'capacity' must not both be set");
+  }
+
+  private static GlobalSecondaryIndexPropsV2 rawIndex(final String indexName, final int nonKeyAttributes) {
+    return GlobalSecondaryIndexPropsV2.builder()
+        .indexName(indexName)
+        .partitionKey(Attribute.builder().name(indexName + "Key").type(AttributeType.STRING).build())
+        .projectionType(ProjectionType.INCLUDE)
+        .nonKeyAttributes(IntStream.rangeClosed(1, nonKeyAttributes).mapToObj((indexName + "Attribute%d")::formatted).toList())
+        .build();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.lambda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awscdk.services.lambda.Architecture.ARM_64;
+import static software.amazon.awscdk.services.lambda.Architecture.X86_64;
+
+import io.sandpipers.cdk.core.construct.lambda.Arm64CustomRuntime2023Function.Arm64CustomRuntime2023FunctionProps;
+import io.sandpipers.cdk.core.construct.lambda.Arm64CustomRuntime2023Function.Arm64CustomRuntime2023FunctionProps.Arm64CustomRuntime2023FunctionPropsBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awscdk.services.lambda.Code;
+
+class Arm64CustomRuntime2023FunctionTest {
+
+  @TempDir
+  private static Path TEMP_DIR;
+
+  private Code arm64Code;
+  private Code defaultCode;
+  private Arm64CustomRuntime2023FunctionPropsBuilder<?, ?> functionPropsBuilder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    arm64Code = Code.fromAsset(Files.writeString(TEMP_DIR.resolve("function-aarch64.zip"), "arm64").toString());
+    defaultCode = Code.fromAsset(Files.writeString(TEMP_DIR.resolve("function.zip"), "default").toString());
+
+    functionPropsBuilder = Arm64CustomRuntime2023FunctionProps.builder()
+        .description("test function")
+        .code(defaultCode)
+        .handler("io.sandpipers.Function::handleRequest");
+  }
+
+  @Test
+  void should_default_to_arm64() {
+    final Arm64CustomRuntime2023FunctionProps actual = functionPropsBuilder
+        .build();
+
+    assertThat(actual.getArchitecture())
+        .isSameAs(ARM_64);
+  }
+
+  @Test
+  void should_select_code_of_function_architecture() {
+    final Arm64CustomRuntime2023FunctionProps actual = functionPropsBuilder
+        .code(ARM_64, arm64Code)
+        .build();
+
+    assertThat(actual.getCode())
+        .isSameAs(arm64Code);
+  }
+
+  @Test
+  void should_select_code_of_overridden_architecture() throws IOException {
+    final Code overriddenCode = Code.fromAsset(Files.writeString(TEMP_DIR.resolve("function-x86_64.zip"), "x86_64").toString());
+
+    final Arm64CustomRuntime2023FunctionProps actual = functionPropsBuilder
+        .architecture(X86_64)
+        .code(ARM_64, arm64Code)
+        .code(X86_64, overriddenCode)
+        .build();
+
+    assertThat(actual.getCode())
+        .isSameAs(overriddenCode);
+  }
+
+  @Test
+  void should_fall_back_to_code_when_architecture_has_no_entry() {
+    final Arm64CustomRuntime2023FunctionProps actual = functionPropsBuilder
+        .architecture(X86_64)
+        .code(ARM_64, arm64Code)
+        .build();
+
+    assertThat(actual.getCode())
+        .isSameAs(defaultCode);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.lambda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function.CustomRuntime2023FunctionProps;
+import io.sandpipers.cdk.core.construct.lambda.QueueEventSourceMapping.QueueEventSourceMappingProps;
+import io.sandpipers.cdk.core.construct.lambda.QueueEventSourceMapping.QueueEventSourceMappingProps.QueueEventSourceMappingPropsBuilder;
+import io.sandpipers.cdk.core.construct.sqs.FifoQueue;
+import io.sandpipers.cdk.core.construct.sqs.FifoQueue.FifoQueueProps;
+import io.sandpipers.cdk.core.construct.sqs.Queue;
+import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
+import io.sadpipers.cdk.type.SafeString;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.sqs.CfnQueue;
+
+class QueueEventSourceMappingTest {
+
+  @TempDir
+  private static Path TEMP_DIR;
+
+  private Stack stack;
+  private SafeString id;
+  private Queue<QueueProps> queue;
+  private QueueEventSourceMappingPropsBuilder<?, ?> propsBuilder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    stack = new Stack(new App(), "test-stack");
+    id = SafeString.of("QueueEventSourceMapping");
+
+    final CustomRuntime2023FunctionProps functionProps = CustomRuntime2023FunctionProps.builder()
+        .description("test function")
+        .handler("io.sandpipers.Function::handleRequest")
+        .code(Code.fromAsset(TestLambdaUtils.getTestLambdaCodePath(TEMP_DIR).toString()))
+        .timeout(Duration.seconds(20))
+        .build();
+
+    final CustomRuntime2023Function<CustomRuntime2023FunctionProps> function =
+        new CustomRuntime2023Function<>(stack, SafeString.of("Function"), functionProps);
+
+    queue = new Queue<>(stack, SafeString.of("Queue"), QueueProps.builder().build());
+
+    propsBuilder = QueueEventSourceMappingProps.builder()
+        .queue(queue)
+        .function(function);
+  }
+
+  @Test
+  void should_derive_visibility_timeout_from_function_timeout_and_batching_window() {
+    new QueueEventSourceMapping<>(stack, id, propsBuilder.batchSize(100).maxBatchingWindow(Duration.seconds(10)).build());
+
+    final CfnQueue cfnQueue = (CfnQueue) queue.getQueue().getNode().getDefaultChild();
+
+    assertThat(cfnQueue.getVisibilityTimeout())
+        .isEqualTo(130);
+  }
+
+  @Test
+  void should_use_given_visibility_timeout() {
+    new QueueEventSourceMapping<>(stack, id, propsBuilder.visibilityTimeout(Duration.seconds(45)).build());
+
+    final CfnQueue cfnQueue = (CfnQueue) queue.getQueue().getNode().getDefaultChild();
+
+    assertThat(cfnQueue.getVisibilityTimeout())
+        .isEqualTo(45);
+  }
+
+  @Test
+  void should_throw_exception_when_visibility_timeout_is_less_than_function_timeout() {
+    final QueueEventSourceMappingProps props = propsBuilder.visibilityTimeout(Duration.seconds(10)).build();
+
+    assertThatThrownBy(() -> new QueueEventSourceMapping<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'visibilityTimeout' must be at least the function timeout of 20 seconds");
+  }
+
+  @Test
+  void should_throw_exception_when_batch_size_is_larger_than_10000() {
+    final QueueEventSourceMappingProps props = propsBuilder.batchSize(10_001).maxBatchingWindow(Duration.seconds(1)).build();
+
+    assertThatThrownBy(() -> new QueueEventSourceMapping<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'batchSize' must be between 1 and 10000 (inclusive)");
+  }
+
+  @Test
+  void should_throw_exception_when_batch_size_is_larger_than_10_without_batching_window() {
+    final QueueEventSourceMappingProps props = propsBuilder.batchSize(11).build();
+
+    assertThatThrownBy(() -> new QueueEventSourceMapping<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'maxBatchingWindow' of at least 1 second is required when 'batchSize' is larger than 10");
+  }
+
+  @Test
+  void should_throw_exception_when_batch_size_is_larger_than_10_with_zero_batching_window() {
+    final QueueEventSourceMappingProps props = propsBuilder.batchSize(11).maxBatchingWindow(Duration.seconds(0)).build();
+
+    assertThatThrownBy(() -> new QueueEventSourceMapping<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'maxBatchingWindow' of at least 1 second is required when 'batchSize' is larger than 10");
+  }
+
+  @Test
+  void should_throw_exception_when_batching_window_is_used_with_fifo_queue() {
+    final FifoQueue<FifoQueueProps> fifoQueue = new FifoQueue<>(stack, SafeString.of("FifoQueue"), FifoQueueProps.builder().build());
+    final QueueEventSourceMappingProps props = propsBuilder.queue(fifoQueue).maxBatchingWindow(Duration.seconds(1)).build();
+
+    assertThatThrownBy(() -> new QueueEventSourceMapping<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'maxBatchingWindow' is not supported for FIFO queues");
+  }
+
+  @Test
+  void should_throw_exception_when_max_concurrency_is_less_than_2() {
+    final QueueEventSourceMappingProps props = propsBuilder.maxConcurrency(1).build();
+
+    assertThatThrownBy(() -> new QueueEventSourceMapping<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'maxConcurrency' must be between 2 and 1000 (inclusive)");
+  }
+}
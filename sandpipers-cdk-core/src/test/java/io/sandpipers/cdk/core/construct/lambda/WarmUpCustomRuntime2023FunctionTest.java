@@ -0,0 +1,89 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.lambda;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sadpipers.cdk.type.SafeString;
+import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function.CustomRuntime2023FunctionProps;
+import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function.CustomRuntime2023FunctionProps.CustomRuntime2023FunctionPropsBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.lambda.Code;
+
+class WarmUpCustomRuntime2023FunctionTest {
+
+  @TempDir
+  private static Path TEMP_DIR;
+
+  private Stack stack;
+  private SafeString id;
+  private CustomRuntime2023FunctionPropsBuilder<?, ?> functionPropsBuilder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    stack = new Stack(new App(), "test-stack");
+    id = SafeString.of("test-function");
+
+    functionPropsBuilder = CustomRuntime2023FunctionProps.builder()
+        .description("test function")
+        .code(Code.fromAsset(Files.writeString(TEMP_DIR.resolve("function.zip"), "function").toString()))
+        .handler("io.sandpipers.Function::handleRequest")
+        .warmUpInterval(Duration.minutes(5));
+  }
+
+  @Test
+  void should_throw_exception_when_warm_up_concurrency_is_less_than_one() {
+    final CustomRuntime2023FunctionProps functionProps = functionPropsBuilder
+        .warmUpConcurrency(0)
+        .build();
+
+    assertThatThrownBy(() -> new CustomRuntime2023Function<>(stack, id, functionProps))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'warmUpConcurrency' must be between 1 and 100 (inclusive)");
+  }
+
+  @Test
+  void should_throw_exception_when_warm_up_concurrency_is_larger_than_one_hundred() {
+    final CustomRuntime2023FunctionProps functionProps = functionPropsBuilder
+        .warmUpConcurrency(101)
+        .build();
+
+    assertThatThrownBy(() -> new CustomRuntime2023Function<>(stack, id, functionProps))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'warmUpConcurrency' must be between 1 and 100 (inclusive)");
+  }
+
+  @Test
+  void should_throw_exception_when_warm_up_is_combined_with_provisioned_concurrency() {
+    final CustomRuntime2023FunctionProps functionProps = functionPropsBuilder
+        .provisionedConcurrentExecutions(2)
+        .build();
+
+    assertThatThrownBy(() -> new CustomRuntime2023Function<>(stack, id, functionProps))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'warmUpInterval' must not be set together with 'provisionedConcurrentExecutions'");
+  }
+}
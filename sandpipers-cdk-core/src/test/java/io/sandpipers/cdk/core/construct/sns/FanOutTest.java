@@ -0,0 +1,134 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sns;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.sns.FanOut.FanOutProps;
+import io.sandpipers.cdk.core.construct.sns.FanOut.FanOutTarget;
+import io.sandpipers.cdk.core.construct.sns.FifoTopic.FifoTopicProps;
+import io.sandpipers.cdk.core.construct.sns.Topic.TopicProps;
+import io.sandpipers.cdk.core.construct.sqs.FifoQueue;
+import io.sandpipers.cdk.core.construct.sqs.FifoQueue.FifoQueueProps;
+import io.sandpipers.cdk.core.construct.sqs.Queue;
+import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
+import io.sadpipers.cdk.type.SafeString;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.sns.CfnSubscription;
+import software.amazon.awscdk.services.sns.Subscription;
+
+class FanOutTest {
+
+  private Stack stack;
+  private SafeString id;
+
+  @BeforeEach
+  void setUp() {
+    stack = new Stack(new App(), "test-stack");
+    id = SafeString.of("FanOut");
+  }
+
+  @Test
+  void should_throw_exception_when_standard_queue_subscribes_to_fifo_topic() {
+    final FanOutProps props = FanOutProps.builder()
+        .topic(new FifoTopic<>(stack, SafeString.of("Topic"), FifoTopicProps.builder().build()))
+        .target(FanOutTarget.builder()
+            .queue(new Queue<>(stack, SafeString.of("OrdersQueue"), QueueProps.builder().build()))
+            .build())
+        .build();
+
+    assertThatThrownBy(() -> new FanOut<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("queue 'OrdersQueue' must be a FIFO queue to subscribe to a FIFO topic");
+  }
+
+  @Test
+  void should_create_fifo_dead_letter_queue_for_fifo_topic() {
+    final FanOutProps props = FanOutProps.builder()
+        .topic(new FifoTopic<>(stack, SafeString.of("Topic"), FifoTopicProps.builder().build()))
+        .target(FanOutTarget.builder()
+            .queue(new FifoQueue<>(stack, SafeString.of("OrdersQueue"), FifoQueueProps.builder().build()))
+            .build())
+        .build();
+
+    final FanOut<FanOutProps> fanOut = new FanOut<>(stack, id, props);
+
+    final FifoQueue<?> deadLetterQueue = (FifoQueue<?>) fanOut.getNode().findChild("OrdersQueueSubscriptionDeadLetterQueue");
+    assertThat(deadLetterQueue.getQueue().getFifo()).isTrue();
+    assertThat(subscription(fanOut, 0).getRedrivePolicy()).isNotNull();
+  }
+
+  @Test
+  void should_filter_on_message_attributes() {
+    final SubscriptionFilterPolicy filterPolicy = SubscriptionFilterPolicy.messageAttributes()
+        .attribute("eventType", FilterCondition.anyOf("REFUND_REQUESTED", "REFUND_ISSUED"))
+        .build();
+
+    final CfnSubscription subscription = subscription(new FanOut<>(stack, id, standardFanOutProps(filterPolicy)), 0);
+
+    assertThat(subscription.getFilterPolicyScope()).isNull();
+    assertThat(stack.resolve(subscription.getFilterPolicy())).asInstanceOf(InstanceOfAssertFactories.MAP).containsOnlyKeys("eventType");
+  }
+
+  @Test
+  void should_filter_on_message_body() {
+    final SubscriptionFilterPolicy filterPolicy = SubscriptionFilterPolicy.messageBody()
+        .attribute("total", FilterCondition.greaterThanOrEqualTo(1000))
+        .build();
+
+    final CfnSubscription subscription = subscription(new FanOut<>(stack, id, standardFanOutProps(filterPolicy)), 0);
+
+    assertThat(subscription.getFilterPolicyScope()).isEqualTo("MessageBody");
+    assertThat(stack.resolve(subscription.getFilterPolicy())).asInstanceOf(InstanceOfAssertFactories.MAP).containsOnlyKeys("total");
+  }
+
+  @Test
+  void should_deliver_sns_envelope_when_raw_message_delivery_is_disabled() {
+    final FanOutProps props = FanOutProps.builder()
+        .topic(new Topic<>(stack, SafeString.of("Topic"), TopicProps.builder().build()))
+        .target(FanOutTarget.builder()
+            .queue(new Queue<>(stack, SafeString.of("AuditQueue"), QueueProps.builder().build()))
+            .rawMessageDelivery(false)
+            .build())
+        .build();
+
+    final CfnSubscription subscription = subscription(new FanOut<>(stack, id, props), 0);
+
+    assertThat(subscription.getRawMessageDelivery()).isEqualTo(false);
+  }
+
+  private FanOutProps standardFanOutProps(final SubscriptionFilterPolicy filterPolicy) {
+    return FanOutProps.builder()
+        .topic(new Topic<>(stack, SafeString.of("Topic"), TopicProps.builder().build()))
+        .target(FanOutTarget.builder()
+            .queue(new Queue<>(stack, SafeString.of("RefundsQueue"), QueueProps.builder().build()))
+            .filterPolicy(filterPolicy)
+            .build())
+        .build();
+  }
+
+  private static CfnSubscription subscription(final FanOut<?> fanOut, final int index) {
+    final Subscription subscription = fanOut.getSubscriptions().get(index);
+    return (CfnSubscription) subscription.getNode().getDefaultChild();
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sns;
+
+import io.sandpipers.cdk.core.construct.sns.HighThroughputFifoTopic.HighThroughputFifoTopicProps;
+import io.sadpipers.cdk.type.SafeString;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.assertions.Template;
+
+class HighThroughputFifoTopicTest {
+
+  private Stack stack;
+  private SafeString id;
+
+  @BeforeEach
+  void setUp() {
+    stack = new Stack(new App(), "test-stack");
+    id = SafeString.of("HighThroughputTopic");
+  }
+
+  @Test
+  void should_scope_fifo_throughput_to_message_group() {
+    new HighThroughputFifoTopic<>(stack, id, HighThroughputFifoTopicProps.builder().build());
+
+    Template.fromStack(stack).hasResourceProperties("AWS::SNS::Topic", Map.of(
+        "FifoTopic", true,
+        "FifoThroughputScope", "MessageGroup"));
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sns;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SubscriptionFilterPolicyTest {
+
+  @Test
+  void should_count_combinations_across_nested_policies() {
+    final SubscriptionFilterPolicy policy = SubscriptionFilterPolicy.messageBody()
+        .attribute("eventType", FilterCondition.anyOf("ORDER_PLACED", "ORDER_UPDATED", "ORDER_CANCELLED"))
+        .attribute("order", SubscriptionFilterPolicy.messageBody()
+            .attribute("currency", FilterCondition.anyOf("AUD", "NZD"))
+            .attribute("total", FilterCondition.between(100, 1000)))
+        .build();
+
+    assertThat(policy.getAttributeNames()).isEqualTo(3);
+    assertThat(policy.getCombinations()).isEqualTo(6);
+    assertThat(policy.toMessageBodyFilterPolicy()).containsOnlyKeys("eventType", "order");
+  }
+
+  @Test
+  void should_throw_exception_when_combinations_exceed_limit() {
+    final SubscriptionFilterPolicy.Builder builder = SubscriptionFilterPolicy.messageAttributes()
+        .attribute("region", FilterCondition.anyOf("a", "b", "c", "d", "e", "f"))
+        .attribute("channel", FilterCondition.anyOf("a", "b", "c", "d", "e", "f"))
+        .attribute("status", FilterCondition.anyOf("a", "b", "c", "d", "e"));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("filter policy must have at most 150 combinations but has 180: region, channel, status");
+  }
+
+  @Test
+  void should_throw_exception_instead_of_overflowing_when_counting_combinations() {
+    final String[] values = IntStream.rangeClosed(1, 100).mapToObj(String::valueOf).toArray(String[]::new);
+
+    final SubscriptionFilterPolicy.Builder builder = SubscriptionFilterPolicy.messageAttributes()
+        .attribute("a", FilterCondition.anyOf(values))
+        .attribute("b", FilterCondition.anyOf(values))
+        .attribute("c", FilterCondition.anyOf(values))
+        .attribute("d", FilterCondition.anyOf(values))
+        .attribute("e", FilterCondition.anyOf(values));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("filter policy must have at most 150 combinations but has 2147483647: a, b, c, d, e");
+  }
+
+  @Test
+  void should_throw_exception_when_attribute_names_exceed_limit() {
+    final SubscriptionFilterPolicy.Builder builder = SubscriptionFilterPolicy.messageBody()
+        .attribute("a", FilterCondition.exists())
+        .attribute("b", FilterCondition.exists())
+        .attribute("c", FilterCondition.exists())
+        .attribute("nested", SubscriptionFilterPolicy.messageBody()
+            .attribute("d", FilterCondition.exists())
+            .attribute("e", FilterCondition.notExists())
+            .attribute("f", FilterCondition.lessThan(0)));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("filter policy must have at most 5 attribute names but has 6: a, b, c, nested{d, e, f}");
+  }
+
+  @Test
+  void should_throw_exception_when_nesting_message_attributes_policy() {
+    final SubscriptionFilterPolicy.Builder nested = SubscriptionFilterPolicy.messageBody()
+        .attribute("tier", FilterCondition.prefix("GOLD"));
+
+    assertThatThrownBy(() -> SubscriptionFilterPolicy.messageAttributes().attribute("customer", nested))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("nested policy 'customer' is only supported with MESSAGE_BODY scope");
+  }
+
+  @Test
+  void should_throw_exception_when_attribute_is_repeated() {
+    final SubscriptionFilterPolicy.Builder builder = SubscriptionFilterPolicy.messageBody()
+        .attribute("total", FilterCondition.greaterThan(100));
+
+    assertThatThrownBy(() -> builder.attribute("total", FilterCondition.lessThanOrEqualTo(1000)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("attribute 'total' is already part of the filter policy");
+  }
+
+  @Test
+  void should_throw_exception_when_range_is_empty() {
+    assertThatThrownBy(() -> FilterCondition.between(10, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'start' must be less than 'stop' but was 10 and 10");
+  }
+}
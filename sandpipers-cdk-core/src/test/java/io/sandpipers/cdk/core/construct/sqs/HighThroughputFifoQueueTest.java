@@ -0,0 +1,63 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.core.construct.sqs;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sandpipers.cdk.core.construct.sqs.HighThroughputFifoQueue.HighThroughputFifoQueueProps;
+import io.sadpipers.cdk.type.SafeString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.services.sqs.DeduplicationScope;
+import software.amazon.awscdk.services.sqs.FifoThroughputLimit;
+
+class HighThroughputFifoQueueTest {
+
+  private Stack stack;
+  private SafeString id;
+
+  @BeforeEach
+  void setUp() {
+    stack = new Stack(new App(), "test-stack");
+    id = SafeString.of("HighThroughputQueue");
+  }
+
+  @Test
+  void should_throw_exception_when_deduplication_scope_is_queue() {
+    final HighThroughputFifoQueueProps props = HighThroughputFifoQueueProps.builder()
+        .deduplicationScope(DeduplicationScope.QUEUE)
+        .build();
+
+    assertThatThrownBy(() -> new HighThroughputFifoQueue<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'deduplicationScope' must be MESSAGE_GROUP for high throughput FIFO queues");
+  }
+
+  @Test
+  void should_throw_exception_when_fifo_throughput_limit_is_per_queue() {
+    final HighThroughputFifoQueueProps props = HighThroughputFifoQueueProps.builder()
+        .fifoThroughputLimit(FifoThroughputLimit.PER_QUEUE)
+        .build();
+
+    assertThatThrownBy(() -> new HighThroughputFifoQueue<>(stack, id, props))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'fifoThroughputLimit' must be PER_MESSAGE_GROUP_ID for high throughput FIFO queues");
+  }
+}
@@ -38,6 +38,9 @@ public class Application extends AbstractApp {
     final RestApiStack restApiStack = new RestApiStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
     tagResources(restApiStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, APPLICATION_NAME);
 
+    final HttpLambdaApiStack httpLambdaApiStack = new HttpLambdaApiStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
+    tagResources(httpLambdaApiStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, APPLICATION_NAME);
+
     app.synth();
   }
 
@@ -19,13 +19,16 @@ package io.sandpipers.cdk.example.apigateway;
 
 import io.sandpipers.cdk.core.AbstractApp;
 import io.sandpipers.cdk.core.construct.BaseStack;
+import io.sandpipers.cdk.core.construct.apigateway.CachingProfile;
+import io.sandpipers.cdk.core.construct.apigateway.LambdaRestApi.LambdaRestApiProps;
+import io.sandpipers.cdk.core.construct.apigateway.PayloadProfile;
 import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function;
 import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function.CustomRuntime2023FunctionProps;
 import io.sadpipers.cdk.type.SafeString;
 import java.io.IOException;
 import java.nio.file.Path;
 import org.jetbrains.annotations.NotNull;
-import software.amazon.awscdk.services.apigateway.LambdaRestApiProps;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.services.apigateway.StageOptions;
 import software.amazon.awscdk.services.lambda.Code;
 
@@ -51,6 +54,8 @@ public class LambdaRestApiStack extends BaseStack {
       final LambdaRestApiProps lambdaRestApiProps = LambdaRestApiProps.builder()
           .handler(function.getFunction())
           .deployOptions(StageOptions.builder().stageName("Test").build())
+          .cachingProfile(CachingProfile.builder().defaultTtl(Duration.seconds(60)).build())
+          .payloadProfile(PayloadProfile.builder().build())
           .build();
 
       new io.sandpipers.cdk.core.construct.apigateway.LambdaRestApi(this, SafeString.of("LambdaRestApi"), lambdaRestApiProps);
@@ -19,13 +19,20 @@ package io.sandpipers.cdk.example.apigateway;
 
 import io.sandpipers.cdk.core.AbstractApp;
 import io.sandpipers.cdk.core.construct.BaseStack;
+import io.sandpipers.cdk.core.construct.apigateway.CachingProfile;
+import io.sandpipers.cdk.core.construct.apigateway.CachingProfile.MethodCaching;
 import io.sandpipers.cdk.core.construct.apigateway.RestApi;
 import io.sandpipers.cdk.core.construct.apigateway.RestApi.RestApiProps;
+import io.sandpipers.cdk.core.construct.apigateway.ThrottlingProfile;
+import io.sandpipers.cdk.core.construct.apigateway.ThrottlingProfile.ClientUsagePlan;
+import io.sandpipers.cdk.core.construct.apigateway.ThrottlingProfile.MethodThrottling;
 import io.sadpipers.cdk.type.SafeString;
 import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.services.apigateway.DomainNameOptions;
 import software.amazon.awscdk.services.apigateway.Integration;
 import software.amazon.awscdk.services.apigateway.IntegrationType;
+import software.amazon.awscdk.services.apigateway.Period;
 import software.amazon.awscdk.services.apigateway.Resource;
 import software.amazon.awscdk.services.apigateway.StageOptions;
 import software.amazon.awscdk.services.certificatemanager.Certificate;
@@ -49,8 +56,31 @@ public class RestApiStack extends BaseStack {
         .domainName(domainName)
         .certificate(certificate).build();
 
+    final CachingProfile cachingProfile = CachingProfile.builder()
+        .defaultTtl(Duration.minutes(5))
+        .methodOverride("/users/{id}/GET", MethodCaching.builder().ttl(Duration.minutes(30)).build())
+        .methodOverride("/users/POST", MethodCaching.builder().enabled(false).build())
+        .cacheKeyParameter("method.request.querystring.page")
+        .build();
+
+    final ThrottlingProfile throttlingProfile = ThrottlingProfile.builder()
+        .burstLimit(200)
+        .rateLimit(100.0)
+        .methodOverride("/users/POST", MethodThrottling.builder().burstLimit(20).rateLimit(10.0).build())
+        .usagePlan(ClientUsagePlan.builder()
+            .name("Partners")
+            .burstLimit(50)
+            .rateLimit(25.0)
+            .quotaLimit(100000)
+            .quotaPeriod(Period.MONTH)
+            .apiKey("acme")
+            .build())
+        .build();
+
     final RestApiProps restApiProps = RestApiProps.builder()
         .deployOptions(StageOptions.builder().stageName("Test").build())
+        .cachingProfile(cachingProfile)
+        .throttlingProfile(throttlingProfile)
         .defaultIntegration(integration)
         .domainName(domainNameOptions)
         .build();
@@ -0,0 +1,89 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.example.apigateway;
+
+import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
+
+import io.sandpipers.cdk.assertion.SynthesizedStack;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.assertions.Template;
+
+@SynthesizedStack(app = Application.class, stack = HttpLambdaApiStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
+public class HttpLambdaApiTest extends TemplateSupport {
+
+  @Test
+  void should_have_http_api(final Template template) {
+
+    assertThat(template)
+        .containsHttpApi("^HttpLambdaApi[a-zA-Z0-9]{8}$")
+        .hasName("HttpLambdaApi")
+        .hasProtocolType("HTTP")
+        .hasDescription("HTTP API for CDK")
+        .hasTag("APPLICATION_NAME", "apigateway-cdk-example")
+        .hasTag("COST_CENTRE", "Sandpipers")
+        .hasTag("ENVIRONMENT", TEST);
+  }
+
+  @Test
+  void should_proxy_to_lambda_with_payload_format_2(final Template template) {
+
+    assertThat(template)
+        .containsHttpApiIntegration("^HttpLambdaApiDefaultRouteIntegration[a-zA-Z0-9]{8}$")
+        .hasApiId("^HttpLambdaApi[a-zA-Z0-9]{8}$")
+        .hasIntegrationType("AWS_PROXY")
+        .hasPayloadFormatVersion("2.0")
+        .hasIntegrationUri("^Function[a-zA-Z0-9]{8}$");
+
+    assertThat(template)
+        .containsHttpApiRoute("^HttpLambdaApiDefaultRoute[a-zA-Z0-9]{8}$")
+        .hasApiId("^HttpLambdaApi[a-zA-Z0-9]{8}$")
+        .hasRouteKey("\\$default")
+        .hasAuthorizationType("NONE")
+        .hasIntegration("^HttpLambdaApiDefaultRouteIntegration[a-zA-Z0-9]{8}$");
+  }
+
+  @Test
+  void should_have_auto_deployed_default_stage(final Template template) {
+
+    assertThat(template)
+        .containsHttpApiStage("^HttpLambdaApiDefaultStage[a-zA-Z0-9]{8}$")
+        .hasApiId("^HttpLambdaApi[a-zA-Z0-9]{8}$")
+        .hasStageName("\\$default")
+        .hasAutoDeploy(true)
+        .hasTag("APPLICATION_NAME", "apigateway-cdk-example")
+        .hasTag("COST_CENTRE", "Sandpipers")
+        .hasTag("ENVIRONMENT", TEST);
+  }
+
+  @Test
+  void should_have_custom_domain_name(final Template template) {
+
+    assertThat(template)
+        .containsHttpApiDomainName("^HttpLambdaApiCustomDomain[a-zA-Z0-9]{8}$")
+        .hasDomainName("sandpipers.yeah")
+        .hasDomainNameConfiguration("^Certificate[a-zA-Z0-9]{8}$", "REGIONAL")
+        .hasTag("APPLICATION_NAME", "apigateway-cdk-example");
+
+    assertThat(template)
+        .containsHttpApiMapping("^HttpLambdaApiDefaultStageSandpipersApigatewayCdkExampleStakeHttpLambdaApiCustomDomain(.*)$")
+        .hasApiId("^HttpLambdaApi[a-zA-Z0-9]{8}$")
+        .hasDomainName("^HttpLambdaApiCustomDomain[a-zA-Z0-9]{8}$")
+        .hasApiMappingKey("v1")
+        .hasStage("\\$default");
+  }
+}
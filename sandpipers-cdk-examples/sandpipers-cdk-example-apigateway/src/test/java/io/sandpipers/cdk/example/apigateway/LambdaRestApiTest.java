@@ -18,30 +18,19 @@
 package io.sandpipers.cdk.example.apigateway;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.apigateway.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import java.util.Map;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import software.amazon.awscdk.assertions.Template;
 
+@SynthesizedStack(app = Application.class, stack = LambdaRestApiStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class LambdaRestApiTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-    final Application app = new Application();
-
-    final LambdaRestApiStack lambdaRestApiStack = new LambdaRestApiStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-    tagResources(lambdaRestApiStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(lambdaRestApiStack);
-  }
-
   @Test
-  void should_have_rest_api() {
+  void should_have_rest_api(final Template template) {
 
     assertThat(template)
         .containsRestApi("^LambdaRestApi[a-zA-Z0-9]{8}$")
@@ -51,7 +40,17 @@ public class LambdaRestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_rest_api_account() {
+  void should_compress_lambda_rest_api_responses(final Template template) {
+
+    assertThat(template)
+        .containsRestApi("^LambdaRestApi[a-zA-Z0-9]{8}$")
+        .hasMinimumCompressionSize(1024)
+        .hasBinaryMediaType("application/gzip")
+        .hasBinaryMediaType("application/x-brotli");
+  }
+
+  @Test
+  void should_have_rest_api_account(final Template template) {
     assertThat(template)
         .containsApiAccount("^LambdaRestApiAccount[a-zA-Z0-9]{8}$")
         .hasCloudWatchRole("^LambdaRestApiCloudWatchRole[a-zA-Z0-9]{8}$")
@@ -61,7 +60,7 @@ public class LambdaRestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_rest_api_deployment() {
+  void should_have_rest_api_deployment(final Template template) {
 
     assertThat(template)
         .containsApiDeployment("^LambdaRestApiDeployment(.*)$")
@@ -73,7 +72,7 @@ public class LambdaRestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_rest_api_stage() {
+  void should_have_rest_api_stage(final Template template) {
 
     assertThat(template)
         .containsApiStage("^LambdaRestApiDeploymentStageTest[a-zA-Z0-9]{8}$")
@@ -87,7 +86,17 @@ public class LambdaRestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_resource() {
+  void should_cache_lambda_rest_api_stage(final Template template) {
+
+    assertThat(template)
+        .containsApiStage("^LambdaRestApiDeploymentStageTest[a-zA-Z0-9]{8}$")
+        .hasCacheCluster("0.5")
+        .hasMethodCaching("/*", "*", true, 60)
+        .hasCacheDataEncrypted();
+  }
+
+  @Test
+  void should_have_resource(final Template template) {
 
     assertThat(template)
         .containsApiResource("^LambdaRestApiproxy[a-zA-Z0-9]{8}$")
@@ -97,7 +106,7 @@ public class LambdaRestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_methods() {
+  void should_have_methods(final Template template) {
 
     final String IntegrationArn = "^arn:aws:apigateway::ap-southeast-2::lambda:path/2015-03-31/functions/Function[a-zA-Z0-9]{8}/invocations$";
 
@@ -119,7 +128,7 @@ public class LambdaRestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_role_with_AmazonAPIGatewayPushToCloudWatchLogs_policy_for_rest_api_to_push_logs_to_cloud_watch() {
+  void should_have_role_with_AmazonAPIGatewayPushToCloudWatchLogs_policy_for_rest_api_to_push_logs_to_cloud_watch(final Template template) {
     final Map<String, String> principal  = Map.of("Service", "apigateway.amazonaws.com");
     final String effect = "Allow";
     final String policyDocumentVersion = "2012-10-17";
@@ -150,7 +159,8 @@ public class LambdaRestApiTest extends TemplateSupport {
       }
   )
   void should_have_permission_to_allow_rest_api_to_call_lambda(final String lambdaPermissionResourceId,
-      final String sourceArnPattern) {
+      final String sourceArnPattern,
+      final Template template) {
 
     assertThat(template)
         .containsLambdaPermission(lambdaPermissionResourceId)
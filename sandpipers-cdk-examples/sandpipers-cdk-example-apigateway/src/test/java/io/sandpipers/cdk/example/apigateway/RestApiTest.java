@@ -18,28 +18,17 @@
 package io.sandpipers.cdk.example.apigateway;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.apigateway.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import java.util.Map;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.assertions.Template;
 
+@SynthesizedStack(app = Application.class, stack = RestApiStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class RestApiTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-    final Application app = new Application();
-
-    final RestApiStack restApiStack = new RestApiStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-    tagResources(restApiStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(restApiStack);
-  }
-
   @Test
-  void should_have_rest_api() {
+  void should_have_rest_api(final Template template) {
 
     assertThat(template)
         .containsRestApi("^RestApi[a-zA-Z0-9]{8}$")
@@ -49,7 +38,7 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_rest_api_account() {
+  void should_have_rest_api_account(final Template template) {
     assertThat(template)
         .containsApiAccount("^RestApiAccount[a-zA-Z0-9]{8}$")
         .hasCloudWatchRole("^RestApiCloudWatchRole[a-zA-Z0-9]{8}$")
@@ -59,7 +48,7 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_rest_api_deployment() {
+  void should_have_rest_api_deployment(final Template template) {
 
     assertThat(template)
         .containsApiDeployment("^RestApiDeployment(.*)$")
@@ -73,7 +62,7 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_rest_api_stage() {
+  void should_have_rest_api_stage(final Template template) {
 
     assertThat(template)
         .containsApiStage("^RestApiDeploymentStageTest[a-zA-Z0-9]{8}$")
@@ -87,7 +76,56 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_root_resources() {
+  void should_cache_rest_api_stage(final Template template) {
+
+    assertThat(template)
+        .containsApiStage("^RestApiDeploymentStageTest[a-zA-Z0-9]{8}$")
+        .hasCacheCluster("0.5")
+        .hasMethodCaching("/*", "*", true, 300)
+        .hasMethodCaching("/~1users~1{id}", "GET", true, 1800)
+        .hasMethodCaching("/~1users", "POST", false, null)
+        .hasCacheDataEncrypted();
+
+    assertThat(template)
+        .containsApiMethod("^RestApiusersidGET[a-zA-Z0-9]{8}$")
+        .hasCacheKeyParameter("method.request.querystring.page");
+  }
+
+  @Test
+  void should_throttle_rest_api_stage(final Template template) {
+
+    assertThat(template)
+        .containsApiStage("^RestApiDeploymentStageTest[a-zA-Z0-9]{8}$")
+        .hasMethodThrottling("/*", "*", 200, 100.0)
+        .hasMethodThrottling("/~1users", "POST", 20, 10.0);
+
+    assertThat(template)
+        .containsApiMethod("^RestApiusersGET[a-zA-Z0-9]{8}$")
+        .hasApiKeyRequired(true);
+  }
+
+  @Test
+  void should_have_usage_plan(final Template template) {
+
+    assertThat(template)
+        .containsUsagePlan("^RestApiPartnersUsagePlan[a-zA-Z0-9]{8}$")
+        .hasUsagePlanName("Partners")
+        .hasThrottle(50, 25.0)
+        .hasQuota(100000, "MONTH")
+        .hasApiStage("^RestApi[a-zA-Z0-9]{8}$", "^RestApiDeploymentStageTest[a-zA-Z0-9]{8}$")
+        .hasTag("APPLICATION_NAME", "apigateway-cdk-example")
+        .hasTag("COST_CENTRE", "Sandpipers")
+        .hasTag("ENVIRONMENT", TEST);
+
+    assertThat(template)
+        .containsUsagePlanKey("^RestApiPartnersUsagePlanUsagePlanKeyResource(.*)$")
+        .hasKeyType("API_KEY")
+        .hasKeyId("^RestApiPartnersacmeApiKey[a-zA-Z0-9]{8}$")
+        .hasUsagePlanId("^RestApiPartnersUsagePlan[a-zA-Z0-9]{8}$");
+  }
+
+  @Test
+  void should_have_root_resources(final Template template) {
 
     assertThat(template)
         .containsApiResource("^RestApiusers[a-zA-Z0-9]{8}$")
@@ -104,7 +142,7 @@ public class RestApiTest extends TemplateSupport {
  }
 
   @Test
-  void should_have_methods() {
+  void should_have_methods(final Template template) {
 
     assertThat(template)
         .containsApiMethod("^RestApiusersGET[a-zA-Z0-9]{8}$")
@@ -132,7 +170,7 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_role_with_AmazonAPIGatewayPushToCloudWatchLogs_policy_for_rest_api_to_push_logs_to_cloud_watch() {
+  void should_have_role_with_AmazonAPIGatewayPushToCloudWatchLogs_policy_for_rest_api_to_push_logs_to_cloud_watch(final Template template) {
     final Map<String, String> principal  = Map.of("Service", "apigateway.amazonaws.com");
     final String effect = "Allow";
     final String policyDocumentVersion = "2012-10-17";
@@ -153,7 +191,7 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_custom_domain_name(){
+  void should_have_custom_domain_name(final Template template){
     assertThat(template)
         .containsApiDomainName("^RestApiCustomDomain[a-zA-Z0-9]{8}$")
         .hasDomainName("sandpipers.yeah")
@@ -165,7 +203,7 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_certificate(){
+  void should_have_certificate(final Template template){
     assertThat(template)
         .containsCertificate("^Certificate[a-zA-Z0-9]{8}$")
         .hasDomainName("sandpipers.yeah")
@@ -177,7 +215,7 @@ public class RestApiTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_path_mapping(){
+  void should_have_path_mapping(final Template template){
     assertThat(template)
         .containsApiPathMapping("^RestApiCustomDomainMapSandpipersApigatewayCdkExampleStakeRestApi(.*)$")
         .hasDomainName("^RestApiCustomDomain[a-zA-Z0-9]{8}$")
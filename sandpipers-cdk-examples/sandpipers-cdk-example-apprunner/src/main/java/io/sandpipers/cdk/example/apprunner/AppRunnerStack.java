@@ -0,0 +1,48 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.example.apprunner;
+
+import io.sandpipers.cdk.core.AbstractApp;
+import io.sandpipers.cdk.core.construct.BaseStack;
+import io.sandpipers.cdk.core.construct.apprunner.PublicIngressPublicEgressAppRunnerService;
+import io.sandpipers.cdk.core.construct.apprunner.PublicIngressPublicEgressAppRunnerService.PublicIngressPublicEgressAppRunnerServiceProps;
+import io.sadpipers.cdk.type.AWSEcrImageIdentifier;
+import io.sadpipers.cdk.type.Path;
+import io.sadpipers.cdk.type.SafeString;
+import org.jetbrains.annotations.NotNull;
+
+public class AppRunnerStack extends BaseStack {
+
+  public AppRunnerStack(@NotNull final AbstractApp app, @NotNull final Environment environment) {
+    super(app, environment);
+
+    final PublicIngressPublicEgressAppRunnerServiceProps serviceProps = PublicIngressPublicEgressAppRunnerServiceProps.builder()
+        .awsEcrImageIdentifier(AWSEcrImageIdentifier.of("111111111111.dkr.ecr.ap-southeast-2.amazonaws.com/sandpipers:latest"))
+        .imageRepositoryType(SafeString.of("ECR"))
+        .healthCheckPath(Path.of("/health"))
+        .egressType(SafeString.of("DEFAULT"))
+        .publiclyAccessible(true)
+        .maxConcurrency(50)
+        .minSize(2)
+        .maxSize(10)
+        .tracingEnabled(true)
+        .build();
+
+    new PublicIngressPublicEgressAppRunnerService<>(this, SafeString.of("Service"), serviceProps);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sandpipers.cdk.example.apprunner;
+
+import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
+
+import io.sandpipers.cdk.assertion.SynthesizedStack;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.assertions.Template;
+
+@SynthesizedStack(app = Application.class, stack = AppRunnerStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
+public class AppRunnerTest extends TemplateSupport {
+
+  @Test
+  void should_have_service(final Template template) {
+
+    assertThat(template)
+        .containsAppRunnerService("^Service[a-zA-Z0-9]{8}$")
+        .hasCpu("1 vCPU")
+        .hasMemory("2 GB")
+        .hasInstanceRole("^ServiceServiceInstanceRole[a-zA-Z0-9]{8}$")
+        .hasTag("APPLICATION_NAME", "apprunner-cdk-example")
+        .hasTag("COST_CENTRE", "Sandpipers")
+        .hasTag("ENVIRONMENT", TEST);
+  }
+
+  @Test
+  void should_scale_service_on_concurrency(final Template template) {
+
+    assertThat(template)
+        .containsAppRunnerService("^Service[a-zA-Z0-9]{8}$")
+        .hasAutoScalingConfiguration("^ServiceServiceAutoScalingConfiguration[a-zA-Z0-9]{8}$");
+
+    assertThat(template)
+        .containsAppRunnerAutoScalingConfiguration("^ServiceServiceAutoScalingConfiguration[a-zA-Z0-9]{8}$")
+        .hasMaxConcurrency(50)
+        .hasMinSize(2)
+        .hasMaxSize(10);
+  }
+
+  @Test
+  void should_trace_service_with_x_ray(final Template template) {
+
+    assertThat(template)
+        .containsAppRunnerService("^Service[a-zA-Z0-9]{8}$")
+        .hasObservabilityConfiguration("^ServiceServiceObservabilityConfiguration[a-zA-Z0-9]{8}$");
+
+    assertThat(template)
+        .containsAppRunnerObservabilityConfiguration("^ServiceServiceObservabilityConfiguration[a-zA-Z0-9]{8}$")
+        .hasTraceVendor("AWSXRAY")
+        .hasTag("APPLICATION_NAME", "apprunner-cdk-example");
+
+    assertThat(template)
+        .containsPolicy("^ServiceServiceInstanceRoleDefaultPolicy[a-zA-Z0-9]{8}$")
+        .isAssociatedWithRole("^ServiceServiceInstanceRole[a-zA-Z0-9]{8}$")
+        .hasPolicyDocumentStatement(
+            List.of("xray:PutTraceSegments", "xray:PutTelemetryRecords", "xray:GetSamplingRules", "xray:GetSamplingTargets"),
+            "*",
+            "Allow");
+  }
+}
@@ -15,17 +15,9 @@
  *   limitations under the License.
  */
 
-package io.sandpipers.cdk.example.route53;
-
-import org.junit.jupiter.api.AfterAll;
-import software.amazon.awscdk.assertions.Template;
+package io.sandpipers.cdk.example.apprunner;
 
 public abstract class TemplateSupport {
 
-  protected static Template template;
-
-  @AfterAll
-  static void cleanup() {
-    template = null;
-  }
+  protected static final String TEST = "TEST";
 }
@@ -19,11 +19,20 @@ package io.sandpipers.cdk.example.dynamodb;
 
 import io.sandpipers.cdk.core.AbstractApp;
 import io.sandpipers.cdk.core.construct.BaseStack;
+import io.sandpipers.cdk.core.construct.dynamodb.Capacity;
+import io.sandpipers.cdk.core.construct.dynamodb.DaxCluster;
+import io.sandpipers.cdk.core.construct.dynamodb.DaxCluster.DaxClusterProps;
+import io.sandpipers.cdk.core.construct.dynamodb.GlobalSecondaryIndex;
+import io.sandpipers.cdk.core.construct.dynamodb.GlobalSecondaryIndex.AccessPattern;
 import io.sandpipers.cdk.core.construct.dynamodb.TableV2;
 import io.sandpipers.cdk.core.construct.dynamodb.TableV2.TableProps;
+import io.sandpipers.cdk.core.construct.ec2.Vpc;
+import io.sandpipers.cdk.core.construct.ec2.Vpc.VpcProps;
+import io.sadpipers.cdk.type.IPv4Cidr;
 import io.sadpipers.cdk.type.KebabCaseString;
 import io.sadpipers.cdk.type.SafeString;
 import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.services.dynamodb.Attribute;
 import software.amazon.awscdk.services.dynamodb.AttributeType;
 import software.amazon.awscdk.services.dynamodb.Billing;
@@ -41,6 +50,61 @@ public class DynamoDBStack extends BaseStack {
         .tableName(KebabCaseString.of("Secrets"))
         .build();
 
-    new TableV2(this, SafeString.of("Table"), tableProps);
+    final TableV2 table = new TableV2(this, SafeString.of("Table"), tableProps);
+
+    final VpcProps vpcProps = VpcProps.builder()
+        .iPv4Cidr(IPv4Cidr.of("10.0.0.0/16"))
+        .natGateways(1)
+        .build();
+
+    final Vpc vpc = new Vpc(this, SafeString.of("Vpc"), vpcProps);
+
+    final DaxClusterProps daxClusterProps = DaxClusterProps.builder()
+        .table(table)
+        .vpc(vpc.getVpc())
+        .itemCacheTtl(Duration.minutes(10))
+        .queryCacheTtl(Duration.minutes(1))
+        .build();
+
+    new DaxCluster<>(this, SafeString.of("DaxCluster"), daxClusterProps);
+
+    final Capacity capacity = Capacity.builder()
+        .minReadCapacity(5)
+        .maxReadCapacity(100)
+        .minWriteCapacity(5)
+        .maxWriteCapacity(50)
+        .targetUtilizationPercent(75)
+        .build();
+
+    final TableV2.TableProps ordersTableProps = TableProps.builder()
+        .capacity(capacity)
+        .partitionKey(Attribute.builder().name("orderId").type(AttributeType.STRING).build())
+        .plannedIndex(GlobalSecondaryIndex.builder()
+            .indexName("byCustomer")
+            .partitionKey(Attribute.builder().name("customerId").type(AttributeType.STRING).build())
+            .sortKey(Attribute.builder().name("createdAt").type(AttributeType.NUMBER).build())
+            .accessPattern(AccessPattern.builder()
+                .name("listOrdersOfCustomer")
+                .attribute("orderId")
+                .attribute("status")
+                .attribute("total")
+                .build())
+            .accessPattern(AccessPattern.builder()
+                .name("countOrdersOfCustomerSince")
+                .attribute("createdAt")
+                .build())
+            .build())
+        .plannedIndex(GlobalSecondaryIndex.builder()
+            .indexName("byStatus")
+            .partitionKey(Attribute.builder().name("status").type(AttributeType.STRING).build())
+            .accessPattern(AccessPattern.builder()
+                .name("listOrderIdsInStatus")
+                .attribute("orderId")
+                .build())
+            .build())
+        .tableName(KebabCaseString.of("Orders"))
+        .build();
+
+    new TableV2(this, SafeString.of("OrdersTable"), ordersTableProps);
   }
 }
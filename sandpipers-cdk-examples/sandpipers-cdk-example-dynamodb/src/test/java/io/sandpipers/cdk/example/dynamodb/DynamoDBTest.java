@@ -18,29 +18,16 @@
 package io.sandpipers.cdk.example.dynamodb;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.dynamodb.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
-import org.junit.jupiter.api.BeforeAll;
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.assertions.Template;
 
+@SynthesizedStack(app = Application.class, stack = DynamoDBStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class DynamoDBTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-
-    final Application app = new Application();
-
-    final DynamoDBStack dynamoDBStack = new DynamoDBStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-
-    tagResources(dynamoDBStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(dynamoDBStack);
-  }
-
   @Test
-  void should_have_dynamodb_table() {
+  void should_have_dynamodb_table(final Template template) {
     assertThat(template)
         .containsDynamoDBTable("^Table[a-zA-Z0-9]{8}$")
         .hasBillingMode("PAY_PER_REQUEST")
@@ -50,7 +37,47 @@ public class DynamoDBTest extends TemplateSupport {
         .hasKeySchema("createdAt", "RANGE")
         .hasAttributeDefinitions("id", "S")
         .hasAttributeDefinitions("createdAt", "N")
+        .hasTimeToLive("expiresAt")
         .hasUpdateReplacePolicy("Retain")
         .hasDeletionPolicy("Retain");
   }
+
+  @Test
+  void should_have_auto_scaled_provisioned_dynamodb_table(final Template template) {
+    assertThat(template)
+        .containsDynamoDBTable("^OrdersTable[a-zA-Z0-9]{8}$")
+        .hasBillingMode("PROVISIONED")
+        .hasName("orders")
+        .hasReadCapacityAutoScaling(5, 100, 75)
+        .hasWriteCapacityAutoScaling(5, 50, 75)
+        .hasGlobalSecondaryIndexReadCapacityAutoScaling("byCustomer", 5, 100, 75)
+        .hasGlobalSecondaryIndexWriteCapacityAutoScaling("byCustomer", 5, 50, 75);
+  }
+
+  @Test
+  void should_project_only_attributes_read_by_access_patterns(final Template template) {
+    assertThat(template)
+        .containsDynamoDBTable("^OrdersTable[a-zA-Z0-9]{8}$")
+        .hasGlobalSecondaryIndexProjection("byCustomer", "INCLUDE", "status", "total")
+        .hasGlobalSecondaryIndexProjection("byStatus", "KEYS_ONLY");
+  }
+
+  @Test
+  void should_have_dax_cluster_in_front_of_dynamodb_table(final Template template) {
+    assertThat(template)
+        .containsDaxCluster("^DaxCluster[a-zA-Z0-9]{8}$")
+        .hasNodeType("dax.t3.small")
+        .hasReplicationFactor(3)
+        .hasServerSideEncryption()
+        .hasClusterEndpointEncryptionType("TLS")
+        .hasSubnetGroup("^DaxClusterSubnetGroup[a-zA-Z0-9]{8}$")
+        .hasParameterGroup("^DaxClusterParameterGroup[a-zA-Z0-9]{8}$")
+        .hasIamRole("^DaxClusterRole[a-zA-Z0-9]{8}$")
+        .hasSecurityGroup("^DaxClusterSecurityGroup[a-zA-Z0-9]{8}$");
+
+    assertThat(template)
+        .containsDaxParameterGroup("^DaxClusterParameterGroup[a-zA-Z0-9]{8}$")
+        .hasItemCacheTtl(600000L)
+        .hasQueryCacheTtl(60000L);
+  }
 }
@@ -17,17 +17,7 @@
 
 package io.sandpipers.cdk.example.dynamodb;
 
-import org.junit.jupiter.api.AfterAll;
-import software.amazon.awscdk.assertions.Template;
-
 public abstract class TemplateSupport {
 
   protected static final String TEST = "TEST";
-
-  protected static Template template;
-
-  @AfterAll
-  static void cleanup() {
-    template = null;
-  }
 }
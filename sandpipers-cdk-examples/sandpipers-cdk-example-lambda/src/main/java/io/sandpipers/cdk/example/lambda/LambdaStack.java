@@ -21,16 +21,27 @@ import static io.sandpipers.cdk.example.lambda.TestLambdaUtils.getTestLambdaCode
 
 import io.sandpipers.cdk.core.AbstractApp;
 import io.sandpipers.cdk.core.construct.BaseStack;
+import io.sandpipers.cdk.core.construct.apigateway.LambdaRestApi.LambdaRestApiProps;
+import io.sandpipers.cdk.core.construct.lambda.Arm64CustomRuntime2023Function;
+import io.sandpipers.cdk.core.construct.lambda.Arm64CustomRuntime2023Function.Arm64CustomRuntime2023FunctionProps;
 import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function;
 import io.sandpipers.cdk.core.construct.lambda.CustomRuntime2023Function.CustomRuntime2023FunctionProps;
+import io.sandpipers.cdk.core.construct.lambda.QueueEventSourceMapping;
+import io.sandpipers.cdk.core.construct.lambda.QueueEventSourceMapping.QueueEventSourceMappingProps;
+import io.sandpipers.cdk.core.construct.sqs.Queue;
+import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
 import io.sadpipers.cdk.type.SafeString;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
-import software.amazon.awscdk.services.apigateway.LambdaRestApiProps;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Size;
 import software.amazon.awscdk.services.apigateway.StageOptions;
+import software.amazon.awscdk.services.lambda.Architecture;
 import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.lambda.LambdaInsightsVersion;
+import software.amazon.awscdk.services.lambda.Tracing;
 
 public class LambdaStack extends BaseStack {
 
@@ -47,6 +58,11 @@ public class LambdaStack extends BaseStack {
           .code(Code.fromAsset(testLambdaCodePath))
           .deadLetterTopicEnabled(true)
           .environment(Map.of("ENV", "TEST", "SPRING_PROFILES_ACTIVE", "TEST"))
+          .architecture(Architecture.ARM_64)
+          .reservedConcurrentExecutions(10)
+          .ephemeralStorageSize(Size.mebibytes(1024))
+          .provisionedConcurrentExecutions(2)
+          .maxProvisionedConcurrentExecutions(5)
           .build();
 
       final CustomRuntime2023Function<CustomRuntime2023FunctionProps> function =
@@ -60,6 +76,41 @@ public class LambdaStack extends BaseStack {
 
       new io.sandpipers.cdk.core.construct.apigateway.LambdaRestApi(this, SafeString.of("RestApi"), restApiProps);
 
+      final CustomRuntime2023FunctionProps tracedFunctionProps = CustomRuntime2023FunctionProps.builder()
+          .description("Traced Function for CDK")
+          .handler("org.springframework.cloud.function.adapter.aws.FunctionInvoker::handleRequest")
+          .code(Code.fromAsset(testLambdaCodePath))
+          .tracing(Tracing.ACTIVE)
+          .logFormat("JSON")
+          .insightsVersion(LambdaInsightsVersion.VERSION_1_0_229_0)
+          .build();
+
+      final CustomRuntime2023Function<CustomRuntime2023FunctionProps> tracedFunction =
+          new CustomRuntime2023Function<>(this, SafeString.of("TracedFunction"), tracedFunctionProps);
+
+      final Queue<QueueProps> queue = new Queue<>(this, SafeString.of("Queue"), QueueProps.builder().build());
+
+      final QueueEventSourceMappingProps queueEventSourceMappingProps = QueueEventSourceMappingProps.builder()
+          .queue(queue)
+          .function(tracedFunction)
+          .batchSize(100)
+          .maxBatchingWindow(Duration.seconds(5))
+          .maxConcurrency(5)
+          .build();
+
+      new QueueEventSourceMapping<>(this, SafeString.of("QueueEventSourceMapping"), queueEventSourceMappingProps);
+
+      final Arm64CustomRuntime2023FunctionProps arm64FunctionProps = Arm64CustomRuntime2023FunctionProps.builder()
+          .description("Graviton Function for CDK")
+          .handler("org.springframework.cloud.function.adapter.aws.FunctionInvoker::handleRequest")
+          .code(Code.fromAsset(testLambdaCodePath))
+          .code(Architecture.ARM_64, Code.fromAsset(testLambdaCodePath))
+          .warmUpInterval(Duration.minutes(5))
+          .warmUpConcurrency(2)
+          .build();
+
+      new Arm64CustomRuntime2023Function<>(this, SafeString.of("Arm64Function"), arm64FunctionProps);
+
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -18,7 +18,7 @@
 package io.sandpipers.cdk.example.lambda;
 
 import io.sandpipers.cdk.assertion.CDKStackAssert;
-import org.junit.jupiter.api.BeforeAll;
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -27,24 +27,12 @@ import software.amazon.awscdk.assertions.Template;
 import java.util.Map;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.lambda.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
+@SynthesizedStack(app = Application.class, stack = LambdaStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class LambdaTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-
-    final Application app = new Application();
-
-    final LambdaStack lambdaStack = new LambdaStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-    tagResources(lambdaStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(lambdaStack);
-  }
-
   @Test
-  void should_have_lambda_function() {
+  void should_have_lambda_function(final Template template) {
 
     CDKStackAssert.assertThat(template)
         .containsFunction("^Function[A-Z0-9]{8}$")
@@ -63,11 +51,102 @@ public class LambdaTest extends TemplateSupport {
         .hasRuntime("provided.al2023")
         .hasTimeout(10)
         .hasMemorySize(512)
-        .hasDeadLetterTarget("^FunctionDeadLetterTopic[A-Z0-9]{8}$");
+        .hasDeadLetterTarget("^FunctionDeadLetterTopic[A-Z0-9]{8}$")
+        .hasArchitecture("arm64")
+        .hasReservedConcurrentExecutions(10)
+        .hasEphemeralStorageSize(1024);
+  }
+
+  @Test
+  void should_have_traced_lambda_function_with_insights_layer(final Template template) {
+
+    assertThat(template)
+        .containsFunction("^TracedFunction[A-Z0-9]{8}$")
+        .hasDescription("Traced Function for CDK")
+        .hasRuntime("provided.al2023")
+        .hasTracingMode("Active")
+        .hasLogFormat("JSON")
+        .hasLayer("^CloudwatchlambdainsightsversionMap$");
+  }
+
+  @Test
+  void should_have_arm64_lambda_function(final Template template) {
+
+    assertThat(template)
+        .containsFunction("^Arm64Function[A-Z0-9]{8}$")
+        .hasDescription("Graviton Function for CDK")
+        .hasCode("^cdk-sandpipers-assets-\\$\\{AWS\\:\\:AccountId\\}-\\$\\{AWS\\:\\:Region\\}$", "(.*).zip")
+        .hasRuntime("provided.al2023")
+        .hasArchitecture("arm64");
+  }
+
+  @Test
+  void should_have_live_alias_with_provisioned_concurrency(final Template template) {
+
+    assertThat(template)
+        .containsLambdaAlias("^FunctionLiveAlias[A-Z0-9]{8}$")
+        .hasName("live")
+        .hasFunctionName("^Function[A-Z0-9]{8}$")
+        .hasFunctionVersion("^FunctionCurrentVersion[a-zA-Z0-9]+$")
+        .hasProvisionedConcurrentExecutions(2);
+  }
+
+  @Test
+  void should_auto_scale_provisioned_concurrency_of_live_alias(final Template template) {
+
+    assertThat(template)
+        .containsScalableTarget("^FunctionLiveAliasAliasScalingTarget[A-Z0-9]{8}$")
+        .hasMinCapacity(2)
+        .hasMaxCapacity(5)
+        .hasScalableDimension("lambda:function:ProvisionedConcurrency")
+        .hasServiceNamespace("lambda");
+
+    assertThat(template)
+        .containsScalingPolicy("^FunctionLiveAliasAliasScalingTargetTracking[A-Z0-9]{8}$")
+        .hasPolicyType("TargetTrackingScaling")
+        .hasScalingTarget("^FunctionLiveAliasAliasScalingTarget[A-Z0-9]{8}$")
+        .hasPredefinedMetricType("LambdaProvisionedConcurrencyUtilization")
+        .hasTargetValue(0.7);
+  }
+
+  @Test
+  void should_have_warm_up_schedule_invoking_function(final Template template) {
+
+    assertThat(template)
+        .containsRule("^Arm64FunctionWarmUpRule0[A-Z0-9]{8}$")
+        .hasScheduleExpression("rate(5 minutes)")
+        .hasState("ENABLED")
+        .hasTargetCount(2)
+        .hasTarget("^Arm64Function[A-Z0-9]{8}$")
+        .hasTargetInputEntry("source", "sandpipers.warm-up")
+        .hasTargetInputEntry("concurrency", 2)
+        .hasTargetInputEntry("index", 1);
+  }
+
+  @Test
+  void should_have_queue_event_source_mapping(final Template template) {
+
+    assertThat(template)
+        .containsEventSourceMapping("^QueueEventSourceMapping[A-Z0-9]{8}$")
+        .hasFunctionName("^TracedFunction[A-Z0-9]{8}$")
+        .hasEventSource("^Queue[A-Z0-9]{8}$")
+        .hasBatchSize(100)
+        .hasMaximumBatchingWindowInSeconds(5)
+        .hasMaximumConcurrency(5)
+        .hasFunctionResponseType("ReportBatchItemFailures");
+  }
+
+  @Test
+  void should_derive_queue_visibility_timeout_from_function_timeout(final Template template) {
+
+    assertThat(template)
+        .containsQueue("^Queue[A-Z0-9]{8}$")
+        .hasVisibilityTimeout(65)
+        .hasDeadLetterQueue("^QueueDeadLetterQueue[A-Z0-9]{8}$");
   }
 
   @Test
-  void should_have_default_policy_to_allow_lambda_publish_to_sns() {
+  void should_have_default_policy_to_allow_lambda_publish_to_sns(final Template template) {
 
     final String policyName = "^FunctionServiceRoleDefaultPolicy[A-Z0-9]{8}$";
 
@@ -83,7 +162,7 @@ public class LambdaTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_event_invoke_config() {
+  void should_have_event_invoke_config(final Template template) {
 
     assertThat(template)
         .containsLambdaEventInvokeConfig("^FunctionEventInvokeConfig[A-Z0-9]{8}$")
@@ -95,7 +174,7 @@ public class LambdaTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_service_role_with_AWSLambdaBasicExecutionRole_policy_to_assume_by_lambda() {
+  void should_have_service_role_with_AWSLambdaBasicExecutionRole_policy_to_assume_by_lambda(final Template template) {
     final Map<String, String> principal = Map.of("Service", "lambda.amazonaws.com");
     final String effect = "Allow";
     final String policyDocumentVersion = "2012-10-17";
@@ -124,7 +203,8 @@ public class LambdaTest extends TemplateSupport {
       }
   )
   void should_have_permission_to_allow_rest_api_to_call_lambda(final String lambdaPermissionResourceId,
-      final String sourceArnPattern) {
+      final String sourceArnPattern,
+      final Template template) {
 
     assertThat(template)
         .containsLambdaPermission(lambdaPermissionResourceId)
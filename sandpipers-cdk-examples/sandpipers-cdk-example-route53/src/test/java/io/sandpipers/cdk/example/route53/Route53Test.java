@@ -18,29 +18,17 @@
 package io.sandpipers.cdk.example.route53;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.route53.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import java.util.List;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.assertions.Template;
 
-public class Route53Test extends TemplateSupport {
-
-  @BeforeAll
-  static void initAll() {
-
-    final Application app = new Application();
-
-    final Route53Stack route53Stack = new Route53Stack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-    tagResources(route53Stack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(route53Stack);
-  }
+@SynthesizedStack(app = Application.class, stack = Route53Stack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
+public class Route53Test {
 
   @Test
-  void should_have_public_a_record() {
+  void should_have_public_a_record(final Template template) {
     assertThat(template)
         .containsRecordSet("^PublicARecord[a-zA-Z0-9]{8}$")
         .hasName("route53-cdk-example.sandpipers.yeah.")
@@ -53,7 +41,7 @@ public class Route53Test extends TemplateSupport {
   }
 
   @Test
-  void should_have_private_a_record() {
+  void should_have_private_a_record(final Template template) {
     assertThat(template)
         .containsRecordSet("^PrivateARecord[a-zA-Z0-9]{8}$")
         .hasName("route53-cdk-example.sandpipers.yeah.")
@@ -66,7 +54,7 @@ public class Route53Test extends TemplateSupport {
   }
 
   @Test
-  void should_have_public_a_hosted_zone() {
+  void should_have_public_a_hosted_zone(final Template template) {
     assertThat(template)
         .containsHostedZone("^PublicHostedZone[a-zA-Z0-9]{8}$")
         .hasName("sandpipers.yeah.")
@@ -76,7 +64,7 @@ public class Route53Test extends TemplateSupport {
   }
 
   @Test
-  void should_have_private_a_hosted_zone() {
+  void should_have_private_a_hosted_zone(final Template template) {
     assertThat(template)
         .containsHostedZone("^PrivateHostedZone[a-zA-Z0-9]{8}$")
         .hasName("sandpipers.yeah.")
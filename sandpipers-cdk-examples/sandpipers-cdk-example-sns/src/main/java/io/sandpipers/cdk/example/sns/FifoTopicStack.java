@@ -21,6 +21,8 @@ import io.sandpipers.cdk.core.AbstractApp;
 import io.sandpipers.cdk.core.construct.BaseStack;
 import io.sandpipers.cdk.core.construct.sns.FifoTopic;
 import io.sandpipers.cdk.core.construct.sns.FifoTopic.FifoTopicProps;
+import io.sandpipers.cdk.core.construct.sns.HighThroughputFifoTopic;
+import io.sandpipers.cdk.core.construct.sns.HighThroughputFifoTopic.HighThroughputFifoTopicProps;
 import io.sandpipers.cdk.core.construct.sqs.Queue;
 import io.sandpipers.cdk.core.construct.sqs.Queue.QueueProps;
 import io.sadpipers.cdk.type.SafeString;
@@ -47,6 +49,12 @@ public class FifoTopicStack extends BaseStack {
 
     final FifoTopic<FifoTopicProps> fifoTopic = new FifoTopic<>(this, SafeString.of("Topic"), fifoTopicProps);
 
+    final HighThroughputFifoTopicProps highThroughputFifoTopicProps = HighThroughputFifoTopicProps.builder()
+        .masterKey(key)
+        .build();
+
+    new HighThroughputFifoTopic<>(this, SafeString.of("HighThroughputTopic"), highThroughputFifoTopicProps);
+
     final QueueProps deadLetterQueueProps = QueueProps.builder().requireDeadLetterQueue(false).build();
     final Queue<QueueProps> deadLetterQueue = new Queue<>(this, SafeString.of("DeadLetterQueue"), deadLetterQueueProps);
 
@@ -19,6 +19,11 @@ package io.sandpipers.cdk.example.sns;
 
 import io.sandpipers.cdk.core.AbstractApp;
 import io.sandpipers.cdk.core.construct.BaseStack;
+import io.sandpipers.cdk.core.construct.sns.FanOut;
+import io.sandpipers.cdk.core.construct.sns.FanOut.FanOutProps;
+import io.sandpipers.cdk.core.construct.sns.FanOut.FanOutTarget;
+import io.sandpipers.cdk.core.construct.sns.FilterCondition;
+import io.sandpipers.cdk.core.construct.sns.SubscriptionFilterPolicy;
 import io.sandpipers.cdk.core.construct.sns.Topic;
 import io.sandpipers.cdk.core.construct.sns.Topic.TopicProps;
 import io.sandpipers.cdk.core.construct.sqs.Queue;
@@ -54,5 +59,34 @@ public class TopicStack extends BaseStack {
         .deadLetterQueue(deadLetterQueue.getQueue())
         .protocol(SubscriptionProtocol.HTTP)
         .build();
+
+    final Queue<QueueProps> ordersQueue = new Queue<>(this, SafeString.of("OrdersQueue"), QueueProps.builder().build());
+    final Queue<QueueProps> refundsQueue = new Queue<>(this, SafeString.of("RefundsQueue"), QueueProps.builder().build());
+    final Queue<QueueProps> largeOrdersQueue = new Queue<>(this, SafeString.of("LargeOrdersQueue"), QueueProps.builder().build());
+
+    final FanOutProps fanOutProps = FanOutProps.builder()
+        .topic(topic)
+        .target(FanOutTarget.builder()
+            .queue(ordersQueue)
+            .build())
+        .target(FanOutTarget.builder()
+            .queue(refundsQueue)
+            .filterPolicy(SubscriptionFilterPolicy.messageAttributes()
+                .attribute("eventType", FilterCondition.anyOf("REFUND_REQUESTED", "REFUND_ISSUED"))
+                .build())
+            .build())
+        .target(FanOutTarget.builder()
+            .queue(largeOrdersQueue)
+            .filterPolicy(SubscriptionFilterPolicy.messageBody()
+                .attribute("eventType", FilterCondition.prefix("ORDER_"))
+                .attribute("total", FilterCondition.greaterThanOrEqualTo(1000))
+                .attribute("customer", SubscriptionFilterPolicy.messageBody()
+                    .attribute("tier", FilterCondition.anythingBut("TRIAL"))
+                    .attribute("accountManager", FilterCondition.exists()))
+                .build())
+            .build())
+        .build();
+
+    new FanOut<>(this, SafeString.of("FanOut"), fanOutProps);
   }
 }
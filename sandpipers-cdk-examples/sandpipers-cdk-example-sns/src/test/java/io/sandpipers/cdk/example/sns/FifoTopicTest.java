@@ -18,28 +18,16 @@
 package io.sandpipers.cdk.example.sns;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.sns.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
-import org.junit.jupiter.api.BeforeAll;
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.assertions.Template;
 
+@SynthesizedStack(app = Application.class, stack = FifoTopicStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class FifoTopicTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-
-    final Application app = new Application();
-
-    final FifoTopicStack fifoTopicStack = new FifoTopicStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-    tagResources(fifoTopicStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(fifoTopicStack);
-  }
-
   @Test
-  void should_have_topic() {
+  void should_have_topic(final Template template) {
 
     assertThat(template)
         .containsTopic("^Topic[a-zA-Z0-9]{8}$")
@@ -54,7 +42,17 @@ public class FifoTopicTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_topic_http_subscription_with_dead_letter_topic() {
+  void should_have_high_throughput_topic(final Template template) {
+
+    assertThat(template)
+        .containsTopic("^HighThroughputTopic[a-zA-Z0-9]{8}$")
+        .isHighThroughputFifo()
+        .hasContentBasedDeduplicationEnabled(true)
+        .hasMasterKey("^Key[a-zA-Z0-9]{8}$");
+  }
+
+  @Test
+  void should_have_topic_http_subscription_with_dead_letter_topic(final Template template) {
     assertThat(template)
         .containsTopicSubscription("^Subscription[a-zA-Z0-9]{8}$")
         .hasTopicArn("^Topic[a-zA-Z0-9]{8}$")
@@ -18,28 +18,18 @@
 package io.sandpipers.cdk.example.sns;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.sns.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
-import org.junit.jupiter.api.BeforeAll;
+import io.sandpipers.cdk.assertion.SynthesizedStack;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.assertions.Template;
 
+@SynthesizedStack(app = Application.class, stack = TopicStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class TopicTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-    final Application app = new Application();
-
-    final TopicStack topicStack = new TopicStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-
-    tagResources(topicStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(topicStack);
-  }
-
   @Test
-  void should_have_topic() {
+  void should_have_topic(final Template template) {
     assertThat(template)
         .containsTopic("^Topic[a-zA-Z0-9]{8}$")
         .isFifo(false)
@@ -50,7 +40,7 @@ public class TopicTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_topic_http_subscription_with_dead_letter_topic() {
+  void should_have_topic_http_subscription_with_dead_letter_topic(final Template template) {
     assertThat(template)
         .containsTopicSubscription("^Subscription[a-zA-Z0-9]{8}$")
         .hasTopicArn("^Topic[a-zA-Z0-9]{8}$")
@@ -59,5 +49,46 @@ public class TopicTest extends TemplateSupport {
         .hasDeadLetterQueue("^DeadLetterQueue[a-zA-Z0-9]{8}$");
   }
 
+  @Test
+  void should_fan_out_to_queues_with_raw_message_delivery(final Template template) {
+    assertThat(template)
+        .containsTopicSubscription("^OrdersQueueSandpipersSnsCdkExampleStakeTopic[a-zA-Z0-9]+$")
+        .hasTopicArn("^Topic[a-zA-Z0-9]{8}$")
+        .hasProtocol("sqs")
+        .hasQueueEndpoint("^OrdersQueue[a-zA-Z0-9]{8}$")
+        .hasRawMessageDelivery()
+        .hasDeadLetterQueue("^FanOutOrdersQueueSubscriptionDeadLetterQueue[a-zA-Z0-9]{8}$");
+
+    assertThat(template)
+        .containsTopicSubscription("^RefundsQueueSandpipersSnsCdkExampleStakeTopic[a-zA-Z0-9]+$")
+        .hasQueueEndpoint("^RefundsQueue[a-zA-Z0-9]{8}$")
+        .hasRawMessageDelivery()
+        .hasFilterPolicy(Map.of("eventType", List.of("REFUND_REQUESTED", "REFUND_ISSUED")))
+        .hasDeadLetterQueue("^FanOutRefundsQueueSubscriptionDeadLetterQueue[a-zA-Z0-9]{8}$");
+  }
+
+  @Test
+  void should_filter_fanned_out_queue_on_message_body(final Template template) {
+    assertThat(template)
+        .containsTopicSubscription("^LargeOrdersQueueSandpipersSnsCdkExampleStakeTopic[a-zA-Z0-9]+$")
+        .hasQueueEndpoint("^LargeOrdersQueue[a-zA-Z0-9]{8}$")
+        .hasFilterPolicyScope("MessageBody")
+        .hasFilterPolicyAttribute("eventType", List.of(Map.of("prefix", "ORDER_")))
+        .hasFilterPolicyAttribute("total", List.of(Map.of("numeric", List.of(">=", 1000))))
+        .hasFilterPolicyAttribute("customer.tier", List.of(Map.of("anything-but", List.of("TRIAL"))))
+        .hasFilterPolicyAttribute("customer.accountManager", List.of(Map.of("exists", true)));
+  }
+
+  @Test
+  void should_allow_only_topic_to_send_to_fanned_out_queues(final Template template) {
+    assertThat(template)
+        .containsQueuePolicy("^OrdersQueuePolicy[a-zA-Z0-9]{8}$")
+        .hasSourceArnCondition("^Topic[a-zA-Z0-9]{8}$");
+
+    assertThat(template)
+        .containsQueuePolicy("^FanOutOrdersQueueSubscriptionDeadLetterQueuePolicy[a-zA-Z0-9]{8}$")
+        .hasSourceArnCondition("^Topic[a-zA-Z0-9]{8}$");
+  }
+
   // TODO add test for Key
 }
@@ -23,6 +23,8 @@ import io.sandpipers.cdk.core.AbstractApp;
 import io.sandpipers.cdk.core.construct.BaseStack;
 import io.sandpipers.cdk.core.construct.sqs.FifoQueue;
 import io.sandpipers.cdk.core.construct.sqs.FifoQueue.FifoQueueProps;
+import io.sandpipers.cdk.core.construct.sqs.HighThroughputFifoQueue;
+import io.sandpipers.cdk.core.construct.sqs.HighThroughputFifoQueue.HighThroughputFifoQueueProps;
 import io.sadpipers.cdk.type.SafeString;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awscdk.services.sqs.RedriveAllowPolicy;
@@ -37,5 +39,11 @@ public class FifoQueueStack extends BaseStack {
         .build();
 
     new FifoQueue<>(this, SafeString.of("Queue"), fifoQueueProps);
+
+    final HighThroughputFifoQueueProps highThroughputFifoQueueProps = HighThroughputFifoQueueProps.builder()
+        .requireDeadLetterQueue(false)
+        .build();
+
+    new HighThroughputFifoQueue<>(this, SafeString.of("HighThroughputQueue"), highThroughputFifoQueueProps);
   }
 }
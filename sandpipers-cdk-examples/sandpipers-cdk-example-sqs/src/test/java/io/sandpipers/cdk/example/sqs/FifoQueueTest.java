@@ -18,28 +18,16 @@
 package io.sandpipers.cdk.example.sqs;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.sqs.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
-import org.junit.jupiter.api.BeforeAll;
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.assertions.Template;
 
+@SynthesizedStack(app = Application.class, stack = FifoQueueStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class FifoQueueTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-    final Application app = new Application();
-
-    final FifoQueueStack fifoQueueStack = new FifoQueueStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-
-    tagResources(fifoQueueStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(fifoQueueStack);
-  }
-
   @Test
-  void should_have_queue_with_dead_letter_queue() {
+  void should_have_queue_with_dead_letter_queue(final Template template) {
     assertThat(template)
         .containsQueue("^Queue[a-zA-Z0-9]{8}$")
         .hasDeadLetterQueue("^QueueDeadLetterQueue[a-zA-Z0-9]{8}$")
@@ -55,7 +43,7 @@ public class FifoQueueTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_dead_letter_queue() {
+  void should_have_dead_letter_queue(final Template template) {
     assertThat(template)
         .containsQueue("^QueueDeadLetterQueue[a-zA-Z0-9]{8}$")
         .isFifo(true)
@@ -67,4 +55,13 @@ public class FifoQueueTest extends TemplateSupport {
         .hasTag("ENVIRONMENT", TEST)
         .hasTag("APPLICATION_NAME", "sqs-cdk-example");
   }
+
+  @Test
+  void should_have_high_throughput_queue(final Template template) {
+    assertThat(template)
+        .containsQueue("^HighThroughputQueue[a-zA-Z0-9]{8}$")
+        .isHighThroughputFifo()
+        .hasContentBasedDeduplicationEnabled(true)
+        .hasTag("APPLICATION_NAME", "sqs-cdk-example");
+  }
 }
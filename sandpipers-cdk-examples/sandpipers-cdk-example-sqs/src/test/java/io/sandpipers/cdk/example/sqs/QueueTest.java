@@ -18,28 +18,18 @@
 package io.sandpipers.cdk.example.sqs;
 
 import static io.sandpipers.cdk.assertion.CDKStackAssert.assertThat;
-import static io.sandpipers.cdk.core.AbstractApp.tagResources;
-import static io.sandpipers.cdk.example.sqs.Environment.SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2;
 
-import org.junit.jupiter.api.BeforeAll;
+import io.sandpipers.cdk.assertion.CdkResourceType;
+import io.sandpipers.cdk.assertion.QueueAssert;
+import io.sandpipers.cdk.assertion.SynthesizedStack;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.assertions.Template;
 
+@SynthesizedStack(app = Application.class, stack = QueueStack.class, environment = "SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2")
 public class QueueTest extends TemplateSupport {
 
-  @BeforeAll
-  static void initAll() {
-
-    final Application app = new Application();
-
-    final QueueStack queueStack = new QueueStack(app, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2);
-    tagResources(queueStack, SANDPIPERS_TEST_111111111111_AP_SOUTHEAST_2, app.getApplicationName());
-
-    template = Template.fromStack(queueStack);
-  }
-
   @Test
-  void should_have_queue_with_dead_letter_queue() {
+  void should_have_queue_with_dead_letter_queue(final Template template) {
     assertThat(template)
         .containsQueue("^Queue[a-zA-Z0-9]{8}$")
         .hasDeadLetterQueue("^QueueDeadLetterQueue[a-zA-Z0-9]{8}$")
@@ -51,7 +41,7 @@ public class QueueTest extends TemplateSupport {
   }
 
   @Test
-  void should_have_dead_letter_queue() {
+  void should_have_dead_letter_queue(final Template template) {
     assertThat(template)
         .containsQueue("^QueueDeadLetterQueue[a-zA-Z0-9]{8}$")
         .hasUpdateReplacePolicy("Retain")
@@ -59,4 +49,18 @@ public class QueueTest extends TemplateSupport {
         .hasTag("ENVIRONMENT", TEST)
         .hasTag("APPLICATION_NAME", "sqs-cdk-example");
   }
+
+  @Test
+  void should_have_encrypted_and_tagged_queues(final Template template) {
+    assertThat(template)
+        .allResourcesOfType(CdkResourceType.QUEUE)
+        .hasSize(2)
+        .allHavePropertyEqualTo("SqsManagedSseEnabled", true)
+        .allSatisfy(queue -> QueueAssert.assertThat(queue)
+            .hasUpdateReplacePolicy("Retain")
+            .hasTag("ENVIRONMENT", TEST))
+        .filteredOnLogicalId("^Queue[a-zA-Z0-9]{8}$")
+        .hasSize(1)
+        .allHaveProperty("RedrivePolicy");
+  }
 }
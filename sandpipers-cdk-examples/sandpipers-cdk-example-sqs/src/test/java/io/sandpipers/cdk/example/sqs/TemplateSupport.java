@@ -17,16 +17,7 @@
 
 package io.sandpipers.cdk.example.sqs;
 
-import org.junit.jupiter.api.AfterAll;
-import software.amazon.awscdk.assertions.Template;
-
 public abstract class TemplateSupport {
-  protected static final String TEST = "TEST";
 
-  protected static Template template;
-
-  @AfterAll
-  static void cleanup() {
-    template = null;
-  }
+  protected static final String TEST = "TEST";
 }
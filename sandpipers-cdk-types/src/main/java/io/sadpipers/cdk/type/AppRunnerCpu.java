@@ -26,12 +26,12 @@ import org.typefactory.TypeParser;
 
 public class AppRunnerCpu extends StringType implements CharSequence {
 
-  private static final int MIN_SIZE = 3;
-  private static final int MAX_SIZE = 9;
+  private static final int MIN_SIZE = 1;
+  private static final int MAX_SIZE = 4;
   private static final String SPECIAL_CHARS = ".";
   private static final MessageCode ERROR_MESSAGE = MessageCode.of(
       "invalid.apprunner.cpu",
-      "must be a %d-%d character(s) value matching '^(?<cpu>(0\\.25|0\\.5|1|2|4)) vCPU$'".formatted(MIN_SIZE, MAX_SIZE)
+      "must be a %d-%d character(s) value matching '^(?<cpu>(0\\.25|0\\.5|1|2|4))$'".formatted(MIN_SIZE, MAX_SIZE)
   );
 
   private static final TypeParser TYPE_PARSER = TypeParser.builder()
@@ -29,12 +29,12 @@ import org.typefactory.TypeParser;
  */
 public class AppRunnerMemory extends StringType implements CharSequence {
 
-  private static final int MIN_SIZE = 3;
-  private static final int MAX_SIZE = 6;
+  private static final int MIN_SIZE = 1;
+  private static final int MAX_SIZE = 3;
   private static final String SPECIAL_CHARS = ".";
   private static final MessageCode ERROR_MESSAGE = MessageCode.of(
       "invalid.apprunner.memory",
-      "must be a %d-%d character(s) value matching '^(?<memory>(0\\.5|1|2|3|4|6|8|10|12)) GB$'".formatted(MIN_SIZE, MAX_SIZE)
+      "must be a %d-%d character(s) value matching '^(?<memory>(0\\.5|1|2|3|4|6|8|10|12))$'".formatted(MIN_SIZE, MAX_SIZE)
   );
 
   private static final TypeParser TYPE_PARSER = TypeParser.builder()
@@ -0,0 +1,45 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sadpipers.cdk.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class AppRunnerCpuTest {
+
+  @Test
+  void should_render_cpu_with_unit() {
+    assertThat(AppRunnerCpu.of("0.25").getValue()).isEqualTo("0.25 vCPU");
+    assertThat(AppRunnerCpu.of("4").getValue()).isEqualTo("4 vCPU");
+  }
+
+  @Test
+  void should_throw_exception_when_cpu_has_unit() {
+    assertThatThrownBy(() -> AppRunnerCpu.of("1 vCPU"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("must be a 1-4 character(s) value");
+  }
+
+  @Test
+  void should_throw_exception_when_cpu_is_not_supported() {
+    assertThatThrownBy(() -> AppRunnerCpu.of("3"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Licensed to Muhammad Hamadto
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sadpipers.cdk.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class AppRunnerMemoryTest {
+
+  @Test
+  void should_render_memory_with_unit() {
+    assertThat(AppRunnerMemory.of("0.5").getValue()).isEqualTo("0.5 GB");
+    assertThat(AppRunnerMemory.of("12").getValue()).isEqualTo("12 GB");
+  }
+
+  @Test
+  void should_throw_exception_when_memory_has_unit() {
+    assertThatThrownBy(() -> AppRunnerMemory.of("2 GB"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("must be a 1-3 character(s) value");
+  }
+
+  @Test
+  void should_throw_exception_when_memory_is_not_supported() {
+    assertThatThrownBy(() -> AppRunnerMemory.of("5"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}